@@ -0,0 +1,93 @@
+package pexper.projects.project_hub.dto;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<FileRecordDto>> FILE_LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private PagedModel<FileRecordDto> filePage;
+    private PagedModel<Project> projectPage;
+    private PagedModel<Owner> ownerPage;
+    private byte[] encodedFiles;
+
+    @Setup
+    public void setUp() {
+        mapper = switch (format) {
+            case "json" -> JsonMapper.builder().findAndAddModules().build();
+            case "cbor" -> CBORMapper.builder().findAndAddModules().build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().build();
+            default -> throw new IllegalArgumentException(format);
+        };
+        List<FileRecordDto> files = new ArrayList<>(size);
+        List<Project> projects = new ArrayList<>(size);
+        List<Owner> owners = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            files.add(new FileRecordDto(i, "file-" + i + ".pdf", "/projects/" + (i % 50) + "/file-" + i + ".pdf", i % 50));
+            Project project = new Project();
+            project.setId(i);
+            project.setProjectName("Project " + i);
+            projects.add(project);
+            Owner owner = new Owner();
+            owner.setId(i);
+            owner.setName("Owner " + i);
+            owner.setEmail("owner" + i + "@example.com");
+            owners.add(owner);
+        }
+        filePage = page(files);
+        projectPage = page(projects);
+        ownerPage = page(owners);
+        encodedFiles = mapper.writeValueAsBytes(files);
+    }
+
+    @Benchmark
+    public byte[] serializeFilePage() {
+        return mapper.writeValueAsBytes(filePage);
+    }
+
+    @Benchmark
+    public List<FileRecordDto> deserializeFileList() {
+        return mapper.readValue(encodedFiles, FILE_LIST);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectPage() {
+        return mapper.writeValueAsBytes(projectPage);
+    }
+
+    @Benchmark
+    public byte[] serializeOwnerPage() {
+        return mapper.writeValueAsBytes(ownerPage);
+    }
+
+    private <T> PagedModel<T> page(List<T> content) {
+        return new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, size), content.size() * 10L));
+    }
+}
@@ -0,0 +1,61 @@
+package pexper.projects.project_hub.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "report", "invoice", "contract", "design", "spec", "budget", "roadmap", "summary",
+            "minutes", "draft", "final", "review", "backup", "export", "archive", "notes"
+    };
+
+    @Param({"1000000"})
+    public int files;
+
+    private SearchIndex searchIndex;
+
+    @Setup
+    public void setUp() throws IOException {
+        searchIndex = new SearchIndex(null);
+        for (int i = 0; i < files; i++) {
+            String name = WORDS[i % WORDS.length] + "-" + WORDS[(i / WORDS.length) % WORDS.length] + "-" + i + ".pdf";
+            String path = "/projects/p" + (i % 5000) + "/" + WORDS[(i / 7) % WORDS.length] + "/" + name;
+            searchIndex.index(new SearchDocument(SearchDocument.FILE, (long) i, name, path));
+        }
+        searchIndex.search("warmup", null, 0, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult exactTerm() {
+        return searchIndex.search("roadmap", null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult prefix() {
+        return searchIndex.search("road", null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult fuzzy() {
+        return searchIndex.search("roadmpa", null, 0, 20);
+    }
+
+    @Benchmark
+    public SearchIndex.SearchResult twoTermsDeepPage() {
+        return searchIndex.search("budget p42", null, 200, 20);
+    }
+}
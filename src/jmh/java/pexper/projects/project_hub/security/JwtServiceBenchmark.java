@@ -0,0 +1,60 @@
+package pexper.projects.project_hub.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import pexper.projects.project_hub.config.JwtConfig;
+import pexper.projects.project_hub.config.JwtProperties;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private JwtDecoder jwtDecoder;
+    private UserDetails user;
+    private String token;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-benchmark-secret-benchmark-secret");
+        properties.setExpirationMinutes(60);
+        JwtConfig config = new JwtConfig(properties);
+        jwtDecoder = config.jwtDecoder();
+        jwtService = new JwtService(config.jwtEncoder(), jwtDecoder, properties);
+        user = User.withUsername("admin").password("unused").roles("ADMIN").build();
+        token = jwtService.generateToken(user);
+        jwt = jwtService.decode(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    // Full signature and claim verification, as every request paid before the verified-token cache.
+    @Benchmark
+    public String extractUsernameUncached() {
+        return jwtDecoder.decode(token).getSubject();
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.decode(token).getSubject();
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(jwt, user);
+    }
+}
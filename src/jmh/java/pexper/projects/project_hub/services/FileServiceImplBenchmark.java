@@ -0,0 +1,58 @@
+package pexper.projects.project_hub.services;
+
+import org.openjdk.jmh.annotations.*;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.FileRecordDto;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileServiceImplBenchmark {
+
+    private FileServiceImpl fileService;
+    private File file;
+    private FileRecordDto sameProject;
+    private FileRecordDto detached;
+
+    @Setup
+    public void setUp() {
+        // Both applyDto inputs below stay off the repositories, so none are needed.
+        fileService = new FileServiceImpl(null, null, null, null);
+        Project project = new Project();
+        project.setId(7L);
+        file = new File();
+        file.setId(1L);
+        file.setFilename("spec.pdf");
+        file.setPath("/files/spec.pdf");
+        file.setProject(project);
+        file.setVersion(3L);
+        sameProject = new FileRecordDto(null, "spec-v2.pdf", "/files/spec-v2.pdf", 7L);
+        detached = new FileRecordDto(null, "spec-v2.pdf", "/files/spec-v2.pdf", null);
+    }
+
+    @Benchmark
+    public FileRecordDto toDto() {
+        return fileService.toDto(file);
+    }
+
+    @Benchmark
+    public File applyDtoSameProject() {
+        File target = new File();
+        target.setProject(file.getProject());
+        fileService.applyDto(target, sameProject);
+        return target;
+    }
+
+    @Benchmark
+    public File applyDtoDetached() {
+        File target = new File();
+        fileService.applyDto(target, detached);
+        return target;
+    }
+}
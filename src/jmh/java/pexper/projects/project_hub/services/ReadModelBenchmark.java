@@ -0,0 +1,75 @@
+package pexper.projects.project_hub.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.ProjectHubApplication;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.ProjectDto;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compares the DTO projection reads with loading managed entities and mapping them afterwards.
+// Run with -Djmh.args="ReadModelBenchmark -prof gc" for allocation per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadModelBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private ProjectRepository projectRepository;
+    private TransactionTemplate transactionTemplate;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectHubApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jmh-read-model;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=warn");
+        projectService = context.getBean(ProjectService.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        pageable = PageRequest.of(0, pageSize);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Project project = new Project();
+            project.setProjectName("Benchmark project " + i);
+            projects.add(project);
+        }
+        projectRepository.saveAll(projects);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProjectDto> projectionPage() {
+        return projectService.findAll(pageable);
+    }
+
+    @Benchmark
+    public Page<ProjectDto> entityPage() {
+        return transactionTemplate.execute(status -> projectRepository.findAll(pageable)
+                .map(project -> new ProjectDto(project.getId(), project.getProjectName(), project.getVersion())));
+    }
+}
@@ -2,12 +2,17 @@ package pexper.projects.project_hub.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "app.auth")
 public class AuthProperties {
 
     private String defaultUser = "admin";
     private String defaultPassword = "admin123";
     private String defaultRole = "ADMIN";
+    private PrincipalStrategy principalStrategy = PrincipalStrategy.CACHE;
+    private long userCacheMaxSize = 10_000;
+    private Duration userCacheTtl = Duration.ofMinutes(5);
 
     public String getDefaultUser() {
         return defaultUser;
@@ -32,4 +37,34 @@ public class AuthProperties {
     public void setDefaultRole(String defaultRole) {
         this.defaultRole = defaultRole;
     }
+
+    public PrincipalStrategy getPrincipalStrategy() {
+        return principalStrategy;
+    }
+
+    public void setPrincipalStrategy(PrincipalStrategy principalStrategy) {
+        this.principalStrategy = principalStrategy;
+    }
+
+    public long getUserCacheMaxSize() {
+        return userCacheMaxSize;
+    }
+
+    public void setUserCacheMaxSize(long userCacheMaxSize) {
+        this.userCacheMaxSize = userCacheMaxSize;
+    }
+
+    public Duration getUserCacheTtl() {
+        return userCacheTtl;
+    }
+
+    public void setUserCacheTtl(Duration userCacheTtl) {
+        this.userCacheTtl = userCacheTtl;
+    }
+
+    public enum PrincipalStrategy {
+        DATABASE,
+        CACHE,
+        TOKEN
+    }
 }
@@ -0,0 +1,62 @@
+package pexper.projects.project_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+// Connector/J ignores the fetch size and reads whole result sets into memory unless
+// useCursorFetch is on. The NDJSON /all streams and the export depend on it, so a MySQL pool
+// without it is reported at startup rather than found by an OutOfMemoryError.
+@Component
+public class CursorFetchCheck {
+
+    static final String USE_CURSOR_FETCH = "useCursorFetch";
+
+    private static final Logger log = LoggerFactory.getLogger(CursorFetchCheck.class);
+
+    private final List<DataSource> dataSources = new ArrayList<>();
+
+    public CursorFetchCheck(DataSource dataSource, @Qualifier("replica") ObjectProvider<DataSource> replica) {
+        dataSources.add(dataSource);
+        replica.ifAvailable(dataSources::add);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() throws SQLException {
+        for (DataSource dataSource : dataSources) {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                continue;
+            }
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+            if (lacksCursorFetch(pool.getJdbcUrl(), pool.getDataSourceProperties())) {
+                log.warn("Pool {} connects to MySQL without {}=true; streamed reads and exports will buffer whole tables in memory",
+                        pool.getPoolName(), USE_CURSOR_FETCH);
+            }
+        }
+    }
+
+    // A setting in the URL wins over the driver properties.
+    static boolean lacksCursorFetch(String jdbcUrl, Properties properties) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:mysql:")) {
+            return false;
+        }
+        String url = jdbcUrl.toLowerCase(Locale.ROOT);
+        String setting = USE_CURSOR_FETCH.toLowerCase(Locale.ROOT) + "=";
+        if (url.contains(setting + "true")) {
+            return false;
+        }
+        return url.contains(setting + "false") || !Boolean.parseBoolean(properties.getProperty(USE_CURSOR_FETCH));
+    }
+}
@@ -0,0 +1,22 @@
+package pexper.projects.project_hub.config;
+
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("h2")
+public class H2FlywayConfig {
+
+    // The in-memory database outlives a context (DB_CLOSE_DELAY=-1), so every context in the JVM
+    // would see the previous one's rows. Cleaning first starts each one from an empty schema, as
+    // create-drop used to.
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package pexper.projects.project_hub.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jackson.autoconfigure.JacksonProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.PropertyNamingStrategy;
+import tools.jackson.databind.cfg.ConstructorDetector;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.lang.reflect.Field;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+
+@Configuration
+public class JacksonSmileConfig {
+
+    // Boot auto-configures the JSON and CBOR mappers but not Smile. This one gets the same
+    // spring.jackson.* settings and JacksonModule beans (Spring Data's page module among them), so
+    // a response reads the same in all three formats.
+    @Bean
+    public SmileMapper smileMapper(JacksonProperties properties, ObjectProvider<JacksonModule> modules) {
+        SmileMapper.Builder builder = SmileMapper.builder();
+        if (properties.isUseJackson2Defaults()) {
+            builder.configureForJackson2()
+                    .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS, DateTimeFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+        }
+        if (properties.isFindAndAddModules()) {
+            builder.findAndAddModules(getClass().getClassLoader());
+        }
+        JsonInclude.Include inclusion = properties.getDefaultPropertyInclusion();
+        if (inclusion != null) {
+            builder.changeDefaultPropertyInclusion(value -> value.withValueInclusion(inclusion).withContentInclusion(inclusion));
+        }
+        if (properties.getTimeZone() != null) {
+            builder.defaultTimeZone(properties.getTimeZone());
+        }
+        if (!properties.getVisibility().isEmpty()) {
+            builder.changeDefaultVisibility(checker -> {
+                var configured = checker;
+                for (var entry : properties.getVisibility().entrySet()) {
+                    configured = configured.withVisibility(entry.getKey(), entry.getValue());
+                }
+                return configured;
+            });
+        }
+        properties.getSerialization().forEach(builder::configure);
+        properties.getDeserialization().forEach(builder::configure);
+        properties.getMapper().forEach(builder::configure);
+        properties.getDatatype().getDatetime().forEach(builder::configure);
+        properties.getDatatype().getEnum().forEach(builder::configure);
+        properties.getDatatype().getJsonNode().forEach(builder::configure);
+        if (properties.getDateFormat() != null) {
+            builder.defaultDateFormat(dateFormat(properties));
+        }
+        if (properties.getPropertyNamingStrategy() != null) {
+            builder.propertyNamingStrategy(namingStrategy(properties.getPropertyNamingStrategy()));
+        }
+        builder.addModules(modules.orderedStream().toList());
+        if (properties.getLocale() != null) {
+            builder.defaultLocale(properties.getLocale());
+        }
+        if (properties.getDefaultLeniency() != null) {
+            builder.defaultLeniency(properties.getDefaultLeniency());
+        }
+        if (properties.getConstructorDetector() != null) {
+            switch (properties.getConstructorDetector()) {
+                case USE_PROPERTIES_BASED -> builder.constructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+                case USE_DELEGATING -> builder.constructorDetector(ConstructorDetector.USE_DELEGATING);
+                case EXPLICIT_ONLY -> builder.constructorDetector(ConstructorDetector.EXPLICIT_ONLY);
+                default -> {
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    // Like Boot: a DateFormat class name, or else a SimpleDateFormat pattern.
+    private DateFormat dateFormat(JacksonProperties properties) {
+        String dateFormat = properties.getDateFormat();
+        if (ClassUtils.isPresent(dateFormat, getClass().getClassLoader())) {
+            return (DateFormat) BeanUtils.instantiateClass(ClassUtils.resolveClassName(dateFormat, getClass().getClassLoader()));
+        }
+        SimpleDateFormat format = new SimpleDateFormat(dateFormat);
+        format.setTimeZone(properties.getTimeZone() != null ? properties.getTimeZone() : TimeZone.getTimeZone("UTC"));
+        return format;
+    }
+
+    // Like Boot: a PropertyNamingStrategy class name, or else a PropertyNamingStrategies constant.
+    private PropertyNamingStrategy namingStrategy(String name) {
+        if (ClassUtils.isPresent(name, getClass().getClassLoader())) {
+            return (PropertyNamingStrategy) BeanUtils.instantiateClass(ClassUtils.resolveClassName(name, getClass().getClassLoader()));
+        }
+        Field field = ReflectionUtils.findField(PropertyNamingStrategies.class, name, PropertyNamingStrategy.class);
+        if (field == null) {
+            throw new IllegalArgumentException("Constant named '" + name + "' not found");
+        }
+        return (PropertyNamingStrategy) ReflectionUtils.getField(field, null);
+    }
+}
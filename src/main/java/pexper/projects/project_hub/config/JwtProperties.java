@@ -7,6 +7,7 @@ public class JwtProperties {
 
     private String secret;
     private long expirationMinutes = 60;
+    private long verifiedTokenCacheSize = 10_000;
 
     public String getSecret() {
         return secret;
@@ -23,4 +24,12 @@ public class JwtProperties {
     public void setExpirationMinutes(long expirationMinutes) {
         this.expirationMinutes = expirationMinutes;
     }
+
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
 }
@@ -0,0 +1,93 @@
+package pexper.projects.project_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnBooleanProperty("app.read-replica.enabled")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    // Applied by Boot to the transaction manager, which reports every commit to it.
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), properties.getMaxTrackedUsers());
+    }
+
+    // Also applied by Boot; keeps replica reads out of the shared Hibernate caches.
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(EntityManagerFactory entityManagerFactory,
+                                                             ReadYourWritesTracker readYourWrites) {
+        return new ReplicaCacheModeListener(entityManagerFactory, readYourWrites);
+    }
+
+    // Not a default candidate, so Boot's DataSource auto-configuration still creates the primary and
+    // only injection points asking for the "replica" qualifier see this pool. As a bean it gets
+    // Boot's pool metrics and health check and is closed with the context.
+    @Bean(name = REPLICA_DATA_SOURCE, defaultCandidate = false)
+    @Qualifier("replica")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+        if (properties.getUrl() == null) {
+            throw new IllegalStateException("Set app.read-replica.url when app.read-replica.enabled is true");
+        }
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        properties.getDataSourceProperties().forEach(replica::addDataSourceProperty);
+        return replica;
+    }
+
+    // Ordered after the virtual-thread guard, so with virtual threads on it routes between the
+    // guarded pools instead of being guarded as a whole.
+    @Bean
+    public static RoutingPostProcessor replicaRouting(@Qualifier("replica") ObjectProvider<DataSource> replica,
+                                                   ObjectProvider<ReadYourWritesTracker> readYourWrites) {
+        return new RoutingPostProcessor(replica, readYourWrites);
+    }
+
+    static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<DataSource> replica;
+        private final ObjectProvider<ReadYourWritesTracker> readYourWrites;
+
+        private RoutingPostProcessor(ObjectProvider<DataSource> replica,
+                                     ObjectProvider<ReadYourWritesTracker> readYourWrites) {
+            this.replica = replica;
+            this.readYourWrites = readYourWrites;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReplicaRoutingDataSource
+                    || REPLICA_DATA_SOURCE.equals(beanName)) {
+                return bean;
+            }
+            return new ReplicaRoutingDataSource(primary, replica.getObject(), readYourWrites.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package pexper.projects.project_hub.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+// A replica may lag behind the primary, so rows read from it must not go into the second-level or
+// query cache, where reads routed to the primary would find them. Read-only transactions that the
+// router sends to the replica therefore bypass both caches. CacheMode.GET is not enough: on a
+// query cache miss Hibernate stores the result whenever reads are enabled. With open-in-view off
+// each of these transactions opens its own session, so the mode ends with it.
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ReplicaCacheModeListener(EntityManagerFactory entityManagerFactory, ReadYourWritesTracker readYourWrites) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        // Same decision as ReplicaRoutingDataSource makes at the transaction's first statement.
+        if (beginFailure != null || !transaction.isReadOnly() || readYourWrites.isWithinWindow()) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        }
+    }
+}
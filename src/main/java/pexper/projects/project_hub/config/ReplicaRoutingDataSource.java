@@ -0,0 +1,65 @@
+package pexper.projects.project_hub.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Sends connections for read-only transactions to the replica and everything else to the primary.
+// The transaction's read-only flag is only known after the transaction manager has asked for a
+// connection, so the routing sits behind a lazy proxy that fetches the real connection at the
+// first statement.
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.replica = replica;
+        Router router = new Router(readYourWrites);
+        router.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    // Stands in for the primary bean, so closing it closes the primary pool. The replica pool is a
+    // bean of its own and is closed by the context.
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        private final ReadYourWritesTracker readYourWrites;
+
+        private Router(ReadYourWritesTracker readYourWrites) {
+            this.readYourWrites = readYourWrites;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.isWithinWindow()
+                    ? REPLICA
+                    : PRIMARY;
+        }
+    }
+}
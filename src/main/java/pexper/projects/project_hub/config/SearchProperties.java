@@ -0,0 +1,26 @@
+package pexper.projects.project_hub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    private String indexDir;
+    private int maxResultWindow = 10000;
+
+    public String getIndexDir() {
+        return indexDir;
+    }
+
+    public void setIndexDir(String indexDir) {
+        this.indexDir = indexDir;
+    }
+
+    public int getMaxResultWindow() {
+        return maxResultWindow;
+    }
+
+    public void setMaxResultWindow(int maxResultWindow) {
+        this.maxResultWindow = maxResultWindow;
+    }
+}
@@ -0,0 +1,67 @@
+package pexper.projects.project_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(JdbcConcurrencyProperties.class)
+public class VirtualThreadsConfig {
+
+    // Request threads are no longer capped by Tomcat's pool, so cap JDBC use in front of Hikari.
+    // Waiters park cheaply on the semaphore instead of all contending inside the pool.
+    @Bean
+    public static GuardPostProcessor jdbcConcurrencyGuard(ObjectProvider<JdbcConcurrencyProperties> properties) {
+        return new GuardPostProcessor(properties);
+    }
+
+    // Each physical pool gets its own guard, sized to that pool: it runs before the replica
+    // routing, which then routes between the guarded primary and the guarded replica bean. A
+    // replica read takes a replica permit only, so the replica adds capacity. The @Bean method
+    // returns this type so the container sees the order before instantiating it.
+    static final class GuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<JdbcConcurrencyProperties> properties;
+
+        private GuardPostProcessor(ObjectProvider<JdbcConcurrencyProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                    || bean instanceof ReplicaRoutingDataSource) {
+                return bean;
+            }
+            JdbcConcurrencyProperties settings = properties.getObject();
+            int limit = settings.getMaxConcurrency() > 0 ? settings.getMaxConcurrency() : poolSize(dataSource);
+            return new ConcurrencyLimitedDataSource(dataSource, limit, settings.getAcquireTimeout());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot read the connection pool size", ex);
+        }
+        throw new IllegalStateException("Set app.jdbc.max-concurrency for a non-Hikari DataSource");
+    }
+}
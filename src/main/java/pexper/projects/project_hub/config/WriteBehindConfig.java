@@ -0,0 +1,27 @@
+package pexper.projects.project_hub.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    // Runs the single write-behind writer, on a virtual thread when spring.threads.virtual.enabled
+    // is set. The queue service waits for the writer on shutdown itself. Not a default candidate,
+    // so the auto-configured applicationTaskExecutor stays in place.
+    @Bean(defaultCandidate = false)
+    @Qualifier("write-behind")
+    public SimpleAsyncTaskExecutor writeBehindTaskExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+        SimpleAsyncTaskExecutor executor = builder.threadNamePrefix("file-write-behind-")
+                .concurrencyLimit(1)
+                .build();
+        // Past the shutdown timeout a stuck writer must not keep the JVM alive.
+        executor.setDaemon(true);
+        return executor;
+    }
+}
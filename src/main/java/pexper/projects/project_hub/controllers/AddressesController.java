@@ -5,11 +5,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pexper.projects.project_hub.domain.Address;
 import pexper.projects.project_hub.domain.Owner;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.AddressDto;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.services.AddressService;
+import pexper.projects.project_hub.services.ModificationCounters;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
 
@@ -18,26 +25,55 @@ import java.util.List;
 public class AddressesController {
 
     private final AddressService addressService;
+    private final JsonMapper jsonMapper;
+    private final ModificationCounters modificationCounters;
 
-    public AddressesController(AddressService addressService) {
+    public AddressesController(AddressService addressService, JsonMapper jsonMapper, ModificationCounters modificationCounters) {
         this.addressService = addressService;
+        this.jsonMapper = jsonMapper;
+        this.modificationCounters = modificationCounters;
     }
 
     @GetMapping
-    public Page<Address> getAll(@RequestParam(defaultValue = "0") int page,
-                                @RequestParam(defaultValue = "10") int size) {
-        return addressService.findAll(PageRequest.of(page, size));
+    public Page<AddressDto> getAll(@RequestParam(defaultValue = "0") int page,
+                                   @RequestParam(defaultValue = "10") int size,
+                                   WebRequest request) {
+        return modificationCounters.readIfModified(Address.class, request::checkNotModified,
+                () -> addressService.findAll(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = {"count=false", "!after"})
+    public PageSlice<AddressDto> getSlice(@RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "10") int size,
+                                          WebRequest request) {
+        return modificationCounters.readIfModified(Address.class, request::checkNotModified,
+                () -> addressService.findSlice(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = "after")
+    public CursorSlice<AddressDto> getAfter(@RequestParam String after,
+                                            @RequestParam(defaultValue = "10") int size,
+                                            WebRequest request) {
+        return modificationCounters.readIfModified(Address.class, request::checkNotModified,
+                () -> addressService.findAfter(after, size));
     }
 
     @GetMapping("/all")
-    public List<Address> getAllFull() {
-        return addressService.findAll();
+    public List<AddressDto> getAllFull(WebRequest request) {
+        return modificationCounters.readIfModified(Address.class, request::checkNotModified,
+                () -> addressService.findAll());
+    }
+
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonStreams.body(jsonMapper, addressService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public Address getById(@PathVariable Long id) {
-        return addressService.findById(id)
+    public ResponseEntity<AddressDto> getById(@PathVariable Long id) {
+        AddressDto address = addressService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found: " + id));
+        return ResponseEntity.ok().eTag(ETags.of(address.getId(), address.getVersion())).body(address);
     }
 
     @PostMapping
@@ -59,15 +95,23 @@ public class AddressesController {
 
     @GetMapping("/{id}/owner")
     public ResponseEntity<Owner> getOwner(@PathVariable Long id) {
-        Address address = addressService.findById(id)
+        Address address = addressService.findWithOwnerById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found: " + id));
-        return ResponseEntity.ok(address.getOwner());
+        Owner owner = address.getOwner();
+        if (owner == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok().eTag(ETags.of(owner.getId(), owner.getVersion())).body(owner);
     }
 
     @GetMapping("/{id}/project")
     public ResponseEntity<Project> getProject(@PathVariable Long id) {
-        Address address = addressService.findById(id)
+        Address address = addressService.findWithProjectById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found: " + id));
-        return ResponseEntity.ok(address.getProject());
+        Project project = address.getProject();
+        if (project == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok().eTag(ETags.of(project.getId(), project.getVersion())).body(project);
     }
 }
@@ -0,0 +1,27 @@
+package pexper.projects.project_hub.controllers;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // Order-independent, so the tag of a Set-backed association is stable across loads.
+    static <T> String ofAll(Collection<T> items, Function<T, Long> id, Function<T, Long> version) {
+        String members = items.stream()
+                .map(item -> id.apply(item) + ":" + version.apply(item))
+                .sorted()
+                .collect(Collectors.joining(","));
+        return "\"" + DigestUtils.md5DigestAsHex(members.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -5,12 +5,24 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
-import pexper.projects.project_hub.domain.Project;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.DirectoryListingDto;
 import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.FileTicketDto;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.ProjectDto;
+import pexper.projects.project_hub.services.FileQueueService;
 import pexper.projects.project_hub.services.FileService;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.ProjectService;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -19,35 +31,99 @@ public class FilesController {
 
     private final FileService fileService;
     private final ProjectService projectService;
+    private final JsonMapper jsonMapper;
+    private final ModificationCounters modificationCounters;
+    private final FileQueueService fileQueueService;
 
-    public FilesController(FileService fileService, ProjectService projectService) {
+    public FilesController(FileService fileService, ProjectService projectService, JsonMapper jsonMapper,
+                           ModificationCounters modificationCounters, FileQueueService fileQueueService) {
         this.fileService = fileService;
         this.projectService = projectService;
+        this.jsonMapper = jsonMapper;
+        this.modificationCounters = modificationCounters;
+        this.fileQueueService = fileQueueService;
     }
 
     @GetMapping
     public Page<FileRecordDto> getAll(@RequestParam(defaultValue = "0") int page,
-                                      @RequestParam(defaultValue = "10") int size) {
-        return fileService.findAll(PageRequest.of(page, size));
+                                      @RequestParam(defaultValue = "10") int size,
+                                      WebRequest request) {
+        return modificationCounters.readIfModified(File.class, request::checkNotModified,
+                () -> fileService.findAll(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = {"count=false", "!after", "!pathPrefix"})
+    public PageSlice<FileRecordDto> getSlice(@RequestParam(defaultValue = "0") int page,
+                                             @RequestParam(defaultValue = "10") int size,
+                                             WebRequest request) {
+        return modificationCounters.readIfModified(File.class, request::checkNotModified,
+                () -> fileService.findSlice(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = {"after", "!pathPrefix"})
+    public CursorSlice<FileRecordDto> getAfter(@RequestParam String after,
+                                               @RequestParam(defaultValue = "10") int size,
+                                               WebRequest request) {
+        return modificationCounters.readIfModified(File.class, request::checkNotModified,
+                () -> fileService.findAfter(after, size));
+    }
+
+    @GetMapping(params = "pathPrefix")
+    public DirectoryListingDto listDirectory(@RequestParam String pathPrefix,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "100") int size,
+                                             WebRequest request) {
+        // Served from this instance's in-memory index, so the tag is the index version the
+        // entries were read at rather than the file table's counter.
+        DirectoryListingDto listing = fileService.listDirectory(pathPrefix, after, size);
+        return request.checkNotModified("W/\"dir-" + listing.getVersion() + "\"") ? null : listing;
     }
 
     @GetMapping("/all")
-    public List<FileRecordDto> getAllFull() {
-        return fileService.findAll();
+    public List<FileRecordDto> getAllFull(WebRequest request) {
+        return modificationCounters.readIfModified(File.class, request::checkNotModified,
+                () -> fileService.findAll());
+    }
+
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonStreams.body(jsonMapper, fileService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public FileRecordDto getById(@PathVariable Long id) {
-        return fileService.findById(id)
+    public ResponseEntity<FileRecordDto> getById(@PathVariable Long id) {
+        FileRecordDto file = fileService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + id));
+        return ResponseEntity.ok().eTag(ETags.of(file.getId(), file.getVersion())).body(file);
     }
 
+    // Prefer: respond-async queues the record for the write-behind writer and answers with a
+    // ticket; with the queue disabled the preference is ignored and the file is stored directly.
     @PostMapping
-    public ResponseEntity<FileRecordDto> create(@RequestBody FileRecordDto fileRecord) {
+    public ResponseEntity<?> create(@RequestBody FileRecordDto fileRecord,
+                                    @RequestHeader(value = "Prefer", required = false) List<String> prefer) {
+        if (prefersRespondAsync(prefer) && fileQueueService.isEnabled()) {
+            FileTicketDto ticket = fileQueueService.enqueue(fileRecord);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/files/tickets/" + ticket.getTicket()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(ticket);
+        }
         FileRecordDto saved = fileService.save(fileRecord);
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @GetMapping("/tickets/{ticket}")
+    public FileTicketDto getTicket(@PathVariable String ticket) {
+        return fileQueueService.findTicket(ticket)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Ticket not found: " + ticket));
+    }
+
+    @PostMapping("/batch")
+    public List<BatchItemResult<FileRecordDto>> createBatch(@RequestBody List<FileRecordDto> fileRecords) {
+        return fileService.saveAll(fileRecords);
+    }
+
     @PutMapping("/{id}")
     public FileRecordDto update(@PathVariable Long id, @RequestBody FileRecordDto fileRecord) {
         return fileService.update(id, fileRecord);
@@ -60,14 +136,31 @@ public class FilesController {
     }
 
     @GetMapping("/{id}/project")
-    public ResponseEntity<Project> getProject(@PathVariable Long id) {
+    public ResponseEntity<ProjectDto> getProject(@PathVariable Long id) {
         FileRecordDto file = fileService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + id));
         if (file.getProjectId() == null) {
             return ResponseEntity.ok(null);
         }
-        Project project = projectService.findById(file.getProjectId())
+        ProjectDto project = projectService.findById(file.getProjectId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + file.getProjectId()));
-        return ResponseEntity.ok(project);
+        return ResponseEntity.ok().eTag(ETags.of(project.getId(), project.getVersion())).body(project);
+    }
+
+    // RFC 7240: preferences are comma-separated, each a token with optional "=value" and
+    // ";"-parameters, so "respond-async, wait=5" must still match.
+    private static boolean prefersRespondAsync(List<String> prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String value : prefer) {
+            for (String preference : value.split(",")) {
+                String token = preference.split("[=;]", 2)[0].trim();
+                if (token.equalsIgnoreCase("respond-async")) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,39 @@
+package pexper.projects.project_hub.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.dto.ImportJobDto;
+import pexper.projects.project_hub.services.ImportService;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportsController {
+
+    private final ImportService importService;
+
+    public ImportsController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    // The body is read as a raw stream, so uploads never pass through a message converter.
+    @PostMapping("/{target}")
+    public ResponseEntity<ImportJobDto> start(@PathVariable String target,
+                                              @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+                                              InputStream body) {
+        ImportJobDto job = importService.start(target, contentType, body);
+        return ResponseEntity.accepted().location(URI.create("/api/imports/" + job.getId())).body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ImportJobDto getById(@PathVariable String id) {
+        return importService.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Import not found: " + id));
+    }
+}
@@ -5,12 +5,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pexper.projects.project_hub.domain.Address;
 import pexper.projects.project_hub.domain.Owner;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.OwnerDto;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.OwnerService;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -18,26 +27,55 @@ import java.util.List;
 public class OwnersController {
 
     private final OwnerService ownerService;
+    private final JsonMapper jsonMapper;
+    private final ModificationCounters modificationCounters;
 
-    public OwnersController(OwnerService ownerService) {
+    public OwnersController(OwnerService ownerService, JsonMapper jsonMapper, ModificationCounters modificationCounters) {
         this.ownerService = ownerService;
+        this.jsonMapper = jsonMapper;
+        this.modificationCounters = modificationCounters;
     }
 
     @GetMapping
-    public Page<Owner> getAll(@RequestParam(defaultValue = "0") int page,
-                              @RequestParam(defaultValue = "10") int size) {
-        return ownerService.findAll(PageRequest.of(page, size));
+    public Page<OwnerDto> getAll(@RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "10") int size,
+                                 WebRequest request) {
+        return modificationCounters.readIfModified(Owner.class, request::checkNotModified,
+                () -> ownerService.findAll(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = {"count=false", "!after"})
+    public PageSlice<OwnerDto> getSlice(@RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "10") int size,
+                                        WebRequest request) {
+        return modificationCounters.readIfModified(Owner.class, request::checkNotModified,
+                () -> ownerService.findSlice(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = "after")
+    public CursorSlice<OwnerDto> getAfter(@RequestParam String after,
+                                          @RequestParam(defaultValue = "10") int size,
+                                          WebRequest request) {
+        return modificationCounters.readIfModified(Owner.class, request::checkNotModified,
+                () -> ownerService.findAfter(after, size));
     }
 
     @GetMapping("/all")
-    public List<Owner> getAllFull() {
-        return ownerService.findAll();
+    public List<OwnerDto> getAllFull(WebRequest request) {
+        return modificationCounters.readIfModified(Owner.class, request::checkNotModified,
+                () -> ownerService.findAll());
+    }
+
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonStreams.body(jsonMapper, ownerService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public Owner getById(@PathVariable Long id) {
-        return ownerService.findById(id)
+    public ResponseEntity<OwnerDto> getById(@PathVariable Long id) {
+        OwnerDto owner = ownerService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owner not found: " + id));
+        return ResponseEntity.ok().eTag(ETags.of(owner.getId(), owner.getVersion())).body(owner);
     }
 
     @PostMapping
@@ -46,6 +84,11 @@ public class OwnersController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @PostMapping("/batch")
+    public List<BatchItemResult<OwnerDto>> createBatch(@RequestBody List<Owner> owners) {
+        return ownerService.saveAll(owners);
+    }
+
     @PutMapping("/{id}")
     public Owner update(@PathVariable Long id, @RequestBody Owner owner) {
         return ownerService.update(id, owner);
@@ -58,16 +101,22 @@ public class OwnersController {
     }
 
     @GetMapping("/{id}/projects")
-    public List<Project> getProjects(@PathVariable Long id) {
-        Owner owner = ownerService.findById(id)
+    public ResponseEntity<List<Project>> getProjects(@PathVariable Long id) {
+        Owner owner = ownerService.findWithProjectsById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owner not found: " + id));
-        return new java.util.ArrayList<>(owner.getProjects());
+        return ResponseEntity.ok()
+                .eTag(ETags.ofAll(owner.getProjects(), Project::getId, Project::getVersion))
+                .body(new ArrayList<>(owner.getProjects()));
     }
 
     @GetMapping("/{id}/address")
     public ResponseEntity<Address> getAddress(@PathVariable Long id) {
-        Owner owner = ownerService.findById(id)
+        Owner owner = ownerService.findWithAddressById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owner not found: " + id));
-        return ResponseEntity.ok(owner.getAddress());
+        Address address = owner.getAddress();
+        if (address == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok().eTag(ETags.of(address.getId(), address.getVersion())).body(address);
     }
 }
@@ -5,13 +5,22 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pexper.projects.project_hub.domain.Address;
 import pexper.projects.project_hub.domain.File;
 import pexper.projects.project_hub.domain.Owner;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.ProjectDto;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.ProjectService;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -19,26 +28,55 @@ import java.util.List;
 public class ProjectsController {
 
     private final ProjectService projectService;
+    private final JsonMapper jsonMapper;
+    private final ModificationCounters modificationCounters;
 
-    public ProjectsController(ProjectService projectService) {
+    public ProjectsController(ProjectService projectService, JsonMapper jsonMapper, ModificationCounters modificationCounters) {
         this.projectService = projectService;
+        this.jsonMapper = jsonMapper;
+        this.modificationCounters = modificationCounters;
     }
 
     @GetMapping
-    public Page<Project> getAll(@RequestParam(defaultValue = "0") int page,
-                                @RequestParam(defaultValue = "10") int size) {
-        return projectService.findAll(PageRequest.of(page, size));
+    public Page<ProjectDto> getAll(@RequestParam(defaultValue = "0") int page,
+                                   @RequestParam(defaultValue = "10") int size,
+                                   WebRequest request) {
+        return modificationCounters.readIfModified(Project.class, request::checkNotModified,
+                () -> projectService.findAll(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = {"count=false", "!after"})
+    public PageSlice<ProjectDto> getSlice(@RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "10") int size,
+                                          WebRequest request) {
+        return modificationCounters.readIfModified(Project.class, request::checkNotModified,
+                () -> projectService.findSlice(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(params = "after")
+    public CursorSlice<ProjectDto> getAfter(@RequestParam String after,
+                                            @RequestParam(defaultValue = "10") int size,
+                                            WebRequest request) {
+        return modificationCounters.readIfModified(Project.class, request::checkNotModified,
+                () -> projectService.findAfter(after, size));
     }
 
     @GetMapping("/all")
-    public List<Project> getAllFull() {
-        return projectService.findAll();
+    public List<ProjectDto> getAllFull(WebRequest request) {
+        return modificationCounters.readIfModified(Project.class, request::checkNotModified,
+                () -> projectService.findAll());
+    }
+
+    @GetMapping(value = "/all", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return NdjsonStreams.body(jsonMapper, projectService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public Project getById(@PathVariable Long id) {
-        return projectService.findById(id)
+    public ResponseEntity<ProjectDto> getById(@PathVariable Long id) {
+        ProjectDto project = projectService.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
+        return ResponseEntity.ok().eTag(ETags.of(project.getId(), project.getVersion())).body(project);
     }
 
     @PostMapping
@@ -47,6 +85,11 @@ public class ProjectsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @PostMapping("/batch")
+    public List<BatchItemResult<ProjectDto>> createBatch(@RequestBody List<Project> projects) {
+        return projectService.saveAll(projects);
+    }
+
     @PutMapping("/{id}")
     public Project update(@PathVariable Long id, @RequestBody Project project) {
         return projectService.update(id, project);
@@ -59,23 +102,31 @@ public class ProjectsController {
     }
 
     @GetMapping("/{id}/owners")
-    public List<Owner> getOwners(@PathVariable Long id) {
-        Project project = projectService.findById(id)
+    public ResponseEntity<List<Owner>> getOwners(@PathVariable Long id) {
+        Project project = projectService.findWithOwnersById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
-        return new java.util.ArrayList<>(project.getOwners());
+        return ResponseEntity.ok()
+                .eTag(ETags.ofAll(project.getOwners(), Owner::getId, Owner::getVersion))
+                .body(new ArrayList<>(project.getOwners()));
     }
 
     @GetMapping("/{id}/files")
-    public List<File> getFiles(@PathVariable Long id) {
-        Project project = projectService.findById(id)
+    public ResponseEntity<List<File>> getFiles(@PathVariable Long id) {
+        Project project = projectService.findWithFilesById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
-        return new java.util.ArrayList<>(project.getFiles());
+        return ResponseEntity.ok()
+                .eTag(ETags.ofAll(project.getFiles(), File::getId, File::getVersion))
+                .body(new ArrayList<>(project.getFiles()));
     }
 
     @GetMapping("/{id}/address")
     public ResponseEntity<Address> getAddress(@PathVariable Long id) {
-        Project project = projectService.findById(id)
+        Project project = projectService.findWithAddressById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
-        return ResponseEntity.ok(project.getAddress());
+        Address address = project.getAddress();
+        if (address == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok().eTag(ETags.of(address.getId(), address.getVersion())).body(address);
     }
 }
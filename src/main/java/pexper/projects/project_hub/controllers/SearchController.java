@@ -0,0 +1,29 @@
+package pexper.projects.project_hub.controllers;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.SearchHitDto;
+import pexper.projects.project_hub.services.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public PageSlice<SearchHitDto> search(@RequestParam("q") String query,
+                                          @RequestParam(required = false) String type,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        return searchService.search(query, type, PageRequest.of(page, size));
+    }
+}
@@ -7,8 +7,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import pexper.projects.project_hub.search.SearchIndexingListener;
+import pexper.projects.project_hub.services.ModificationCountingListener;
 
 @Entity
+@EntityListeners({ModificationCountingListener.class, SearchIndexingListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +25,8 @@ import lombok.ToString;
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "address_seq")
+    @SequenceGenerator(name = "address_seq", sequenceName = "address_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String street;
@@ -26,11 +35,16 @@ public class Address {
     private String number;
     private String zipCode;
 
+    @Version
+    @ColumnDefault("0")
     @JsonIgnore
-    @OneToOne
+    private Long version;
+
+    @JsonIgnore
+    @OneToOne(fetch = FetchType.LAZY)
     private Owner owner;
 
     @JsonIgnore
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     private Project project;
 }
@@ -10,12 +10,14 @@ import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import pexper.projects.project_hub.security.AppUserCacheInvalidator;
 
 import java.util.Collection;
 import java.util.List;
 
 @Entity
 @Table(name = "app_user")
+@EntityListeners(AppUserCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,8 +7,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import pexper.projects.project_hub.search.DirectoryIndexingListener;
+import pexper.projects.project_hub.search.SearchIndexingListener;
+import pexper.projects.project_hub.services.ModificationCountingListener;
 
 @Entity
+@EntityListeners({ModificationCountingListener.class, SearchIndexingListener.class, DirectoryIndexingListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,13 +22,19 @@ import lombok.ToString;
 public class File {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_seq")
+    @SequenceGenerator(name = "file_seq", sequenceName = "file_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String filename;
     private String path;
 
+    @Version
+    @ColumnDefault("0")
     @JsonIgnore
-    @ManyToOne
+    private Long version;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     private Project project;
 }
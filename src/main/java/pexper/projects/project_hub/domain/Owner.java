@@ -7,11 +7,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import pexper.projects.project_hub.search.SearchIndexingListener;
+import pexper.projects.project_hub.services.ModificationCountingListener;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners({ModificationCountingListener.class, SearchIndexingListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,18 +28,25 @@ import java.util.Set;
 public class Owner {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "owner_seq")
+    @SequenceGenerator(name = "owner_seq", sequenceName = "owner_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String name;
     private String email;
 
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long version;
+
     @JsonIgnore
     @ManyToMany(mappedBy = "owners")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner.projects")
     private Set<Project> projects = new HashSet<>();
 
     @JsonIgnore
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "address_id")
     private Address address;
 }
@@ -1,5 +1,6 @@
 package pexper.projects.project_hub.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
@@ -7,11 +8,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import pexper.projects.project_hub.search.SearchIndexingListener;
+import pexper.projects.project_hub.services.ModificationCountingListener;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners({ModificationCountingListener.class, SearchIndexingListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,17 +29,24 @@ import java.util.Set;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String projectName;
 
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long version;
+
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project.owners")
     @JoinTable(name = "owner_project", joinColumns = @JoinColumn(name = "project_id"), inverseJoinColumns = @JoinColumn(name = "owner_id"))
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private Set<Owner> owners = new HashSet<>();
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "address_id")
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private Address address;
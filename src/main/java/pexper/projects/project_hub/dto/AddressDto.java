@@ -0,0 +1,53 @@
+package pexper.projects.project_hub.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class AddressDto {
+
+    private final Long id;
+    private final String street;
+    private final String city;
+    private final String state;
+    private final String number;
+    private final String zipCode;
+    private final Long version;
+
+    public AddressDto(Long id, String street, String city, String state, String number, String zipCode, Long version) {
+        this.id = id;
+        this.street = street;
+        this.city = city;
+        this.state = state;
+        this.number = number;
+        this.zipCode = zipCode;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getNumber() {
+        return number;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+}
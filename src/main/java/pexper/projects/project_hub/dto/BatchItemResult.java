@@ -0,0 +1,42 @@
+package pexper.projects.project_hub.dto;
+
+import org.springframework.http.HttpStatus;
+
+public class BatchItemResult<T> {
+
+    private final int index;
+    private final int status;
+    private final T item;
+    private final String error;
+
+    public BatchItemResult(int index, int status, T item, String error) {
+        this.index = index;
+        this.status = status;
+        this.item = item;
+        this.error = error;
+    }
+
+    public static <T> BatchItemResult<T> success(int index, HttpStatus status, T item) {
+        return new BatchItemResult<>(index, status.value(), item, null);
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, HttpStatus status, String error) {
+        return new BatchItemResult<>(index, status.value(), null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,32 @@
+package pexper.projects.project_hub.dto;
+
+import java.util.List;
+
+public class CursorSlice<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String next;
+
+    public CursorSlice(List<T> content, int size, String next) {
+        this.content = content;
+        this.size = size;
+        this.next = next;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public boolean isHasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,38 @@
+package pexper.projects.project_hub.dto;
+
+public class DirectoryEntryDto {
+
+    private final String type;
+    private final Long id;
+    private final String name;
+    private final String path;
+    private final long fileCount;
+
+    public DirectoryEntryDto(String type, Long id, String name, String path, long fileCount) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.path = path;
+        this.fileCount = fileCount;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getFileCount() {
+        return fileCount;
+    }
+}
@@ -0,0 +1,66 @@
+package pexper.projects.project_hub.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+public class DirectoryListingDto {
+
+    private final String path;
+    private final long fileCount;
+    private final int folderCount;
+    private final int directFileCount;
+    private final List<DirectoryEntryDto> entries;
+    private final int size;
+    private final String next;
+    private final String version;
+
+    public DirectoryListingDto(String path, long fileCount, int folderCount, int directFileCount,
+                               List<DirectoryEntryDto> entries, int size, String next, String version) {
+        this.path = path;
+        this.fileCount = fileCount;
+        this.folderCount = folderCount;
+        this.directFileCount = directFileCount;
+        this.entries = entries;
+        this.size = size;
+        this.next = next;
+        this.version = version;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    public int getFolderCount() {
+        return folderCount;
+    }
+
+    public int getDirectFileCount() {
+        return directFileCount;
+    }
+
+    public List<DirectoryEntryDto> getEntries() {
+        return entries;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public boolean isHasNext() {
+        return next != null;
+    }
+
+    @JsonIgnore
+    public String getVersion() {
+        return version;
+    }
+}
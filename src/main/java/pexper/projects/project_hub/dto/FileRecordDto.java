@@ -1,11 +1,29 @@
 package pexper.projects.project_hub.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class FileRecordDto {
 
     private Long id;
     private String filename;
     private String path;
     private Long projectId;
+    private Long version;
+
+    public FileRecordDto() {
+    }
+
+    public FileRecordDto(Long id, String filename, String path, Long projectId) {
+        this.id = id;
+        this.filename = filename;
+        this.path = path;
+        this.projectId = projectId;
+    }
+
+    public FileRecordDto(Long id, String filename, String path, Long projectId, Long version) {
+        this(id, filename, path, projectId);
+        this.version = version;
+    }
 
     public Long getId() {
         return id;
@@ -38,4 +56,13 @@ public class FileRecordDto {
     public void setProjectId(Long projectId) {
         this.projectId = projectId;
     }
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
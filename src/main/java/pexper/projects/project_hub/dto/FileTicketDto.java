@@ -0,0 +1,42 @@
+package pexper.projects.project_hub.dto;
+
+public class FileTicketDto {
+
+    public static final String PENDING = "PENDING";
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    private final String ticket;
+    private final String status;
+    private final Long fileId;
+    private final Integer errorStatus;
+    private final String error;
+
+    public FileTicketDto(String ticket, String status, Long fileId, Integer errorStatus, String error) {
+        this.ticket = ticket;
+        this.status = status;
+        this.fileId = fileId;
+        this.errorStatus = errorStatus;
+        this.error = error;
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getFileId() {
+        return fileId;
+    }
+
+    public Integer getErrorStatus() {
+        return errorStatus;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
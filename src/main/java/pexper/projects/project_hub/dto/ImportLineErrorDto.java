@@ -0,0 +1,20 @@
+package pexper.projects.project_hub.dto;
+
+public class ImportLineErrorDto {
+
+    private final long line;
+    private final String error;
+
+    public ImportLineErrorDto(long line, String error) {
+        this.line = line;
+        this.error = error;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
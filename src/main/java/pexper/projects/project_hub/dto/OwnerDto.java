@@ -0,0 +1,35 @@
+package pexper.projects.project_hub.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class OwnerDto {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final Long version;
+
+    public OwnerDto(Long id, String name, String email, Long version) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,40 @@
+package pexper.projects.project_hub.dto;
+
+import java.util.List;
+
+public class PageSlice<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long totalEstimate;
+
+    public PageSlice(List<T> content, int page, int size, boolean hasNext, Long totalEstimate) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalEstimate = totalEstimate;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public Long getTotalEstimate() {
+        return totalEstimate;
+    }
+}
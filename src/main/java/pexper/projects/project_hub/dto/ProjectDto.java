@@ -0,0 +1,29 @@
+package pexper.projects.project_hub.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class ProjectDto {
+
+    private final Long id;
+    private final String projectName;
+    private final Long version;
+
+    public ProjectDto(Long id, String projectName, Long version) {
+        this.id = id;
+        this.projectName = projectName;
+        this.version = version;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+}
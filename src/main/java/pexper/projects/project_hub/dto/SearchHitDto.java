@@ -0,0 +1,38 @@
+package pexper.projects.project_hub.dto;
+
+public class SearchHitDto {
+
+    private final String type;
+    private final Long id;
+    private final String title;
+    private final String detail;
+    private final float score;
+
+    public SearchHitDto(String type, Long id, String title, String detail, float score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.detail = detail;
+        this.score = score;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public float getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,72 @@
+package pexper.projects.project_hub.exports;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// One <table>.csv entry per table plus a closing manifest.csv. Nulls are written as empty fields
+// and empty strings as "", the same convention the CSV importer reads.
+class CsvExportWriter implements ExportWriter {
+
+    static final String MANIFEST = "manifest";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void startTable(String table, List<String> columns) throws IOException {
+        zip.putNextEntry(new ZipEntry(table + ".csv"));
+        line(columns.toArray());
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+        line(values);
+    }
+
+    @Override
+    public void endTable() throws IOException {
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    @Override
+    public void finish(Map<String, Long> rowCounts) throws IOException {
+        startTable(MANIFEST, List.of("table", "rows"));
+        for (Map.Entry<String, Long> count : rowCounts.entrySet()) {
+            line(new Object[]{count.getKey(), count.getValue()});
+        }
+        endTable();
+        zip.finish();
+    }
+
+    private void line(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escape(String value) {
+        if (!value.isEmpty() && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,10 @@
+package pexper.projects.project_hub.exports;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import pexper.projects.project_hub.config.ExportProperties;
+
+@Configuration
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfig {
+}
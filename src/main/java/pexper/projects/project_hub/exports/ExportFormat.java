@@ -0,0 +1,43 @@
+package pexper.projects.project_hub.exports;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("application", "zip"), "zip");
+
+    private static final MediaType GZIP = new MediaType("application", "gzip");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat of(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    // CSV tables travel as one zip entry each, which is already compressed.
+    public boolean isGzipped(boolean gzipRequested) {
+        return gzipRequested && this == NDJSON;
+    }
+
+    public MediaType getMediaType(boolean gzipRequested) {
+        return isGzipped(gzipRequested) ? GZIP : mediaType;
+    }
+
+    public String getFilename(boolean gzipRequested) {
+        return "project-hub-export." + extension + (isGzipped(gzipRequested) ? ".gz" : "");
+    }
+}
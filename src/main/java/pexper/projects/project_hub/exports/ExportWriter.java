@@ -0,0 +1,28 @@
+package pexper.projects.project_hub.exports;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+// Receives tables one after another, each as a header followed by its rows. finish() writes the
+// closing summary; a stream that ends without it was cut short.
+public interface ExportWriter {
+
+    void startTable(String table, List<String> columns) throws IOException;
+
+    void row(Object[] values) throws IOException;
+
+    void endTable() throws IOException;
+
+    void finish(Map<String, Long> rowCounts) throws IOException;
+
+    static ExportWriter open(ExportFormat format, OutputStream out, JsonMapper jsonMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(out, jsonMapper);
+            case CSV -> new CsvExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package pexper.projects.project_hub.exports;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+// One JSON object per line, tagged with its table: {"type":"file","id":7,"filename":...}.
+class NdjsonExportWriter implements ExportWriter {
+
+    static final String SUMMARY = "export";
+
+    private final JsonGenerator generator;
+    private String table;
+    private List<String> columns;
+
+    NdjsonExportWriter(OutputStream out, JsonMapper jsonMapper) {
+        this.generator = jsonMapper.writer().withRootValueSeparator("\n").createGenerator(out);
+    }
+
+    @Override
+    public void startTable(String table, List<String> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    @Override
+    public void row(Object[] values) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", table);
+        for (int i = 0; i < values.length; i++) {
+            generator.writeName(columns.get(i));
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.longValue());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void endTable() {
+        table = null;
+        columns = null;
+    }
+
+    @Override
+    public void finish(Map<String, Long> rowCounts) {
+        generator.writeStartObject();
+        generator.writeStringProperty("type", SUMMARY);
+        generator.writePOJOProperty("rows", rowCounts);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+}
@@ -0,0 +1,111 @@
+package pexper.projects.project_hub.imports;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// RFC 4180 fields on a single line: commas, double quotes and "" escapes. The first non-blank
+// line is the header. Empty unquoted fields read as null, so "" is the way to import an empty
+// string. Quoted line breaks are not supported, which keeps every record on its own line.
+class CsvRecordReader extends ImportRecordReader {
+
+    private List<String> header;
+
+    CsvRecordReader(Reader reader, int maxLineLength) {
+        super(reader, maxLineLength);
+    }
+
+    @Override
+    protected ImportRecord parse(long lineNumber, String text) {
+        List<String> values = new ArrayList<>();
+        String error = split(text, values);
+        if (header == null) {
+            header = header(error, values);
+            return null;
+        }
+        if (error != null) {
+            return ImportRecord.failure(lineNumber, error);
+        }
+        if (values.size() != header.size()) {
+            return ImportRecord.failure(lineNumber, "Expected " + header.size() + " fields but found " + values.size());
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return ImportRecord.of(lineNumber, fields);
+    }
+
+    @Override
+    protected ImportRecord overlong(long lineNumber) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is longer than " + getMaxLineLength() + " characters");
+        }
+        return super.overlong(lineNumber);
+    }
+
+    private static List<String> header(String error, List<String> values) {
+        if (error != null) {
+            throw new IllegalArgumentException("Invalid CSV header: " + error);
+        }
+        List<String> names = new ArrayList<>(values.size());
+        for (String value : values) {
+            String name = value == null ? "" : value.trim();
+            if (name.isEmpty() || names.contains(name)) {
+                throw new IllegalArgumentException("Invalid CSV header: column names must be unique and non-empty");
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    // Returns an error message, or null once every field has been added to values.
+    static String split(String text, List<String> values) {
+        int length = text.length();
+        int i = 0;
+        while (true) {
+            if (i < length && text.charAt(i) == '"') {
+                StringBuilder value = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        return "Unterminated quoted field";
+                    }
+                    char c = text.charAt(i++);
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i < length && text.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && text.charAt(i) != ',') {
+                    return "Unexpected character after quoted field at column " + (i + 1);
+                }
+                values.add(value.toString());
+            } else {
+                int end = text.indexOf(',', i);
+                if (end < 0) {
+                    end = length;
+                }
+                if (text.substring(i, end).indexOf('"') >= 0) {
+                    return "Unexpected quote in unquoted field at column " + (i + 1);
+                }
+                values.add(end == i ? null : text.substring(i, end));
+                i = end;
+            }
+            if (i >= length) {
+                return null;
+            }
+            i++;
+            if (i == length) {
+                values.add(null);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package pexper.projects.project_hub.imports;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import pexper.projects.project_hub.config.ImportProperties;
+
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportConfig {
+
+    // Boot's builder makes the workers virtual threads when spring.threads.virtual.enabled is set.
+    // Running and queued jobs each hold a worker, and the service admits no more than that. On
+    // shutdown the context waits shutdown-timeout for them, then interrupts what is left. Not a
+    // default candidate, so the auto-configured applicationTaskExecutor stays in place.
+    @Bean(defaultCandidate = false)
+    @Qualifier("import")
+    public SimpleAsyncTaskExecutor importTaskExecutor(SimpleAsyncTaskExecutorBuilder builder, ImportProperties properties) {
+        return builder.threadNamePrefix("import-")
+                .concurrencyLimit(properties.getMaxConcurrentJobs() + properties.getMaxQueuedJobs())
+                .cancelRemainingTasksOnClose(false)
+                .taskTerminationTimeout(properties.getShutdownTimeout())
+                .build();
+    }
+}
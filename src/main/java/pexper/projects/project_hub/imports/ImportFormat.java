@@ -0,0 +1,30 @@
+package pexper.projects.project_hub.imports;
+
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ImportFormat of(MediaType contentType) {
+        if (contentType != null) {
+            for (ImportFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(contentType)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+}
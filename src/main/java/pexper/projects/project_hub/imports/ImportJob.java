@@ -0,0 +1,145 @@
+package pexper.projects.project_hub.imports;
+
+import pexper.projects.project_hub.dto.ImportLineErrorDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Progress of one import. A single worker thread writes it while any number of status requests
+// read it, so counters are volatile and only the bounded error list needs a lock.
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, INTERRUPTED
+    }
+
+    private final String id;
+    private final String target;
+    private final ImportFormat format;
+    private final long bytesTotal;
+    private final int maxErrors;
+    private final Instant createdAt = Instant.now();
+    private final List<ImportLineErrorDto> errors = new ArrayList<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long bytesRead;
+    private volatile long linesRead;
+    private volatile long imported;
+    private volatile long failed;
+
+    public ImportJob(String id, String target, ImportFormat format, long bytesTotal, int maxErrors) {
+        this.id = id;
+        this.target = target;
+        this.format = format;
+        this.bytesTotal = bytesTotal;
+        this.maxErrors = maxErrors;
+    }
+
+    public void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    public void progress(long bytesRead, long linesRead) {
+        this.bytesRead = Math.min(bytesRead, bytesTotal);
+        this.linesRead = linesRead;
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void reject(long lineNumber, String error) {
+        failed++;
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportLineErrorDto(lineNumber, error));
+            }
+        }
+    }
+
+    public void completed() {
+        bytesRead = bytesTotal;
+        finish(Status.COMPLETED, null);
+    }
+
+    public void failed(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    public void interrupted(String message) {
+        finish(Status.INTERRUPTED, message);
+    }
+
+    private void finish(Status status, String message) {
+        this.message = message;
+        finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        Status current = status;
+        return current == Status.COMPLETED || current == Status.FAILED || current == Status.INTERRUPTED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public long getBytesTotal() {
+        return bytesTotal;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<ImportLineErrorDto> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package pexper.projects.project_hub.imports;
+
+import java.util.Map;
+
+public final class ImportRecord {
+
+    private final long lineNumber;
+    private final Map<String, String> fields;
+    private final String error;
+
+    private ImportRecord(long lineNumber, Map<String, String> fields, String error) {
+        this.lineNumber = lineNumber;
+        this.fields = fields;
+        this.error = error;
+    }
+
+    static ImportRecord of(long lineNumber, Map<String, String> fields) {
+        return new ImportRecord(lineNumber, fields, null);
+    }
+
+    static ImportRecord failure(long lineNumber, String error) {
+        return new ImportRecord(lineNumber, Map.of(), error);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String get(String field) {
+        return fields.get(field);
+    }
+
+    public String getError() {
+        return error;
+    }
+}
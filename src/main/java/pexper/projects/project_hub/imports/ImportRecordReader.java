@@ -0,0 +1,120 @@
+package pexper.projects.project_hub.imports;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+// Reads one record per line. Lines are cut off at maxLineLength while they are read, so neither
+// a huge upload nor a missing newline grows memory beyond a single bounded line.
+public abstract class ImportRecordReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean overlong;
+    private long lineNumber;
+
+    protected ImportRecordReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public static ImportRecordReader open(ImportFormat format, Reader reader, JsonMapper jsonMapper, int maxLineLength) {
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader(reader, maxLineLength, jsonMapper);
+            case CSV -> new CsvRecordReader(reader, maxLineLength);
+        };
+    }
+
+    // Returns null at the end of the input. Blank lines are skipped but still counted.
+    public ImportRecord next() throws IOException {
+        String text;
+        while ((text = readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK) {
+                text = text.substring(1);
+            }
+            if (overlong) {
+                return overlong(lineNumber);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            ImportRecord record = parse(lineNumber, text);
+            if (record != null) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    protected int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    // Returns null for lines that carry no record, such as a CSV header.
+    protected abstract ImportRecord parse(long lineNumber, String text);
+
+    protected ImportRecord overlong(long lineNumber) {
+        return ImportRecord.failure(lineNumber, "Line is longer than " + maxLineLength + " characters");
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readLine() throws IOException {
+        line.setLength(0);
+        overlong = false;
+        boolean started = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    return started ? terminate() : null;
+                }
+            }
+            started = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                position++;
+                return terminate();
+            }
+        }
+    }
+
+    private void append(int start, int end) {
+        int room = maxLineLength - line.length();
+        if (end - start > room) {
+            overlong = true;
+            line.append(buffer, start, Math.max(room, 0));
+        } else {
+            line.append(buffer, start, end - start);
+        }
+    }
+
+    private String terminate() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package pexper.projects.project_hub.imports;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class NdjsonRecordReader extends ImportRecordReader {
+
+    private final JsonMapper jsonMapper;
+
+    NdjsonRecordReader(Reader reader, int maxLineLength, JsonMapper jsonMapper) {
+        super(reader, maxLineLength);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected ImportRecord parse(long lineNumber, String text) {
+        JsonNode node;
+        try {
+            node = jsonMapper.readTree(text);
+        } catch (JacksonException ex) {
+            return ImportRecord.failure(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRecord.failure(lineNumber, "Expected a JSON object");
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> property : node.properties()) {
+            JsonNode value = property.getValue();
+            if (value.isNull()) {
+                fields.put(property.getKey(), null);
+            } else if (value.isValueNode()) {
+                fields.put(property.getKey(), value.asString());
+            } else {
+                return ImportRecord.failure(lineNumber, "Field " + property.getKey() + " must be a string or a number");
+            }
+        }
+        return ImportRecord.of(lineNumber, fields);
+    }
+}
@@ -0,0 +1,56 @@
+package pexper.projects.project_hub.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import pexper.projects.project_hub.config.RequestStatementProperties;
+
+@Configuration
+@EnableConfigurationProperties(RequestStatementProperties.class)
+public class PersistenceMetricsConfig {
+
+    // Registered ahead of the security chain so the principal lookup is counted with the request.
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry,
+                                                                       RequestStatementProperties properties) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry, properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementCounter() {
+        StatementInspector inspector = sql -> {
+            RequestPersistenceStats.statementPrepared(sql);
+            return sql;
+        };
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+    @Bean
+    public SmartInitializingSingleton requestPersistenceListeners(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .requireService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RequestPersistenceStats.entityLoaded());
+            registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event -> RequestPersistenceStats.collectionFetched());
+            registry.appendListeners(EventType.FLUSH, (FlushEventListener) event -> RequestPersistenceStats.flushed());
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package pexper.projects.project_hub.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import pexper.projects.project_hub.config.RequestStatementProperties;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS = "app.request.statements";
+    static final String ENTITY_LOADS = "app.request.entity.loads";
+    static final String COLLECTION_FETCHES = "app.request.collection.fetches";
+    static final String FLUSHES = "app.request.flushes";
+    static final String REPEATED_STATEMENTS = "app.request.repeated.statements";
+    static final String OVER_BUDGET = "app.request.over.budget";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final RequestStatementProperties properties;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, RequestStatementProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestPersistenceStats stats = RequestPersistenceStats.begin();
+        request.setAttribute(RequestPersistenceStats.ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestPersistenceStats.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                String method = request.getMethod();
+                String uri = pattern.toString();
+                record(STATEMENTS, method, uri, stats.getStatements());
+                record(ENTITY_LOADS, method, uri, stats.getEntityLoads());
+                record(COLLECTION_FETCHES, method, uri, stats.getCollectionFetches());
+                record(FLUSHES, method, uri, stats.getFlushes());
+                checkStatements(method, uri, stats);
+            }
+        }
+    }
+
+    private void checkStatements(String method, String uri, RequestPersistenceStats stats) {
+        if (properties.getBudget() > 0 && stats.getStatements() > properties.getBudget()) {
+            Counter.builder(OVER_BUDGET).tags("method", method, "uri", uri).register(meterRegistry).increment();
+            log.warn("{} {} executed {} statements, budget is {}", method, uri, stats.getStatements(), properties.getBudget());
+        }
+        if (properties.getRepeatThreshold() > 1) {
+            Map<String, Integer> repeated = stats.getRepeatedStatements(properties.getRepeatThreshold());
+            if (!repeated.isEmpty()) {
+                Counter.builder(REPEATED_STATEMENTS).tags("method", method, "uri", uri).register(meterRegistry).increment();
+                repeated.forEach((sql, count) ->
+                        log.warn("Possible N+1 on {} {}: statement executed {} times: {}", method, uri, count, sql));
+            }
+        }
+    }
+
+    private void record(String name, String method, String uri, int value) {
+        DistributionSummary.builder(name)
+                .tags("method", method, "uri", uri)
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry)
+                .record(value);
+    }
+}
@@ -0,0 +1,98 @@
+package pexper.projects.project_hub.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Persistence work done by the current request thread. Requests are served by one thread end to
+// end (platform or virtual), so a thread local is enough; work outside a request is not counted.
+public final class RequestPersistenceStats {
+
+    public static final String ATTRIBUTE = RequestPersistenceStats.class.getName();
+
+    private static final ThreadLocal<RequestPersistenceStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+    private int flushes;
+    private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+
+    private RequestPersistenceStats() {
+    }
+
+    static RequestPersistenceStats begin() {
+        RequestPersistenceStats stats = new RequestPersistenceStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestPersistenceStats current() {
+        return CURRENT.get();
+    }
+
+    // The inspector sees SQL with bind placeholders, so the same text with different binds counts
+    // as one statement repeated.
+    static void statementPrepared(String sql) {
+        RequestPersistenceStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void entityLoaded() {
+        RequestPersistenceStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        RequestPersistenceStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetches++;
+        }
+    }
+
+    static void flushed() {
+        RequestPersistenceStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.flushes++;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+
+    public Map<String, Integer> getStatementCounts() {
+        return Collections.unmodifiableMap(statementCounts);
+    }
+
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,45 @@
+package pexper.projects.project_hub.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String TIMER = "app.service";
+    static final String FAILURES = "app.service.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * pexper.projects.project_hub.services.*ServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            Counter.builder(FAILURES)
+                    .tags("class", type, "method", method, "exception", exception)
+                    .register(meterRegistry)
+                    .increment();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .tags("class", type, "method", method, "exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -1,7 +1,46 @@
 package pexper.projects.project_hub.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.dto.AddressDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
+    @EntityGraph(attributePaths = "owner")
+    Optional<Address> findWithOwnerById(Long id);
+
+    @EntityGraph(attributePaths = "project")
+    Optional<Address> findWithProjectById(Long id);
+
+    List<AddressDto> findAllProjectedBy();
+
+    Page<AddressDto> findAllProjectedBy(Pageable pageable);
+
+    Slice<AddressDto> findSliceProjectedBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<AddressDto> findProjectedById(Long id);
+
+    Slice<AddressDto> findProjectedByIdGreaterThan(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new pexper.projects.project_hub.dto.AddressDto(a.id, a.street, a.city, a.state, a.number, a.zipCode, a.version) from Address a order by a.id")
+    Stream<AddressDto> streamAll();
+
+    @Query("select a.id from Address a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
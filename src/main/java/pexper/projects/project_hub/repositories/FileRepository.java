@@ -1,7 +1,54 @@
 package pexper.projects.project_hub.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.FileRecordDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FileRepository extends JpaRepository<File, Long> {
+    @Query("select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id) from File f")
+    List<FileRecordDto> findAllRecords();
+
+    @Query(value = "select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id) from File f",
+            countQuery = "select count(f) from File f")
+    Page<FileRecordDto> findAllRecords(Pageable pageable);
+
+    @Query("select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id) from File f")
+    Slice<FileRecordDto> findRecordSlice(Pageable pageable);
+
+    @Query("select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id, f.version) from File f where f.id = :id")
+    Optional<FileRecordDto> findRecordById(@Param("id") Long id);
+
+    @Query("select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id) from File f where f.id > :id")
+    Slice<FileRecordDto> findRecordsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new pexper.projects.project_hub.dto.FileRecordDto(f.id, f.filename, f.path, f.project.id) from File f order by f.id")
+    Stream<FileRecordDto> streamAll();
+
+    @Modifying
+    @Query("update versioned File f set f.project = :project where f.id in :ids")
+    int assignToProject(@Param("project") Project project, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update versioned File f set f.project = null where f.project = :project and f.id not in :ids")
+    int detachFromProjectExcept(@Param("project") Project project, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update versioned File f set f.project = null where f.project = :project")
+    int detachAllFromProject(@Param("project") Project project);
 }
@@ -1,7 +1,47 @@
 package pexper.projects.project_hub.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.OwnerDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface OwnerRepository extends JpaRepository<Owner, Long> {
+    @EntityGraph(attributePaths = "projects")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Owner> findWithProjectsById(Long id);
+
+    @EntityGraph(attributePaths = "address")
+    Optional<Owner> findWithAddressById(Long id);
+
+    List<OwnerDto> findAllProjectedBy();
+
+    Page<OwnerDto> findAllProjectedBy(Pageable pageable);
+
+    Slice<OwnerDto> findSliceProjectedBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<OwnerDto> findProjectedById(Long id);
+
+    Slice<OwnerDto> findProjectedByIdGreaterThan(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new pexper.projects.project_hub.dto.OwnerDto(o.id, o.name, o.email, o.version) from Owner o order by o.id")
+    Stream<OwnerDto> streamAll();
+
+    @Query("select o.id from Owner o where o.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
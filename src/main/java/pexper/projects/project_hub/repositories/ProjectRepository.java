@@ -1,7 +1,54 @@
 package pexper.projects.project_hub.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.ProjectDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @EntityGraph(attributePaths = "owners")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Project> findWithOwnersById(Long id);
+
+    @EntityGraph(attributePaths = "files")
+    Optional<Project> findWithFilesById(Long id);
+
+    @EntityGraph(attributePaths = "address")
+    Optional<Project> findWithAddressById(Long id);
+
+    List<ProjectDto> findAllProjectedBy();
+
+    Page<ProjectDto> findAllProjectedBy(Pageable pageable);
+
+    Slice<ProjectDto> findSliceProjectedBy(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<ProjectDto> findProjectedById(Long id);
+
+    Slice<ProjectDto> findProjectedByIdGreaterThan(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new pexper.projects.project_hub.dto.ProjectDto(p.id, p.projectName, p.version) from Project p order by p.id")
+    Stream<ProjectDto> streamAll();
+
+    @Query("select p.id from Project p where p.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p.id from Project p")
+    Set<Long> findAllIds();
 }
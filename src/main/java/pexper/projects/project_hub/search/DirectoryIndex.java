@@ -0,0 +1,365 @@
+package pexper.projects.project_hub.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+// Trie of path segments over File.path. Every folder keeps its direct subfolders, its direct
+// files and a recursive file count, so listing a folder costs its depth plus the page read,
+// independent of how many files exist elsewhere. Pages resume after the last entry returned, so
+// reaching a page deep into a large folder costs a tree seek instead of a walk over what precedes it.
+public class DirectoryIndex {
+
+    private static final String FOLDER_CURSOR = "folder:";
+    private static final String FILE_CURSOR = "file:";
+
+    private static final Comparator<FileEntry> BY_NAME =
+            Comparator.comparing(FileEntry::getName).thenComparing(FileEntry::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Folder root = new Folder("", null);
+    private final Map<Long, FileEntry> filesById = new HashMap<>();
+    // The index lives on one instance and starts empty, so versions from another instance or an
+    // earlier start must never match: each index gets a random epoch.
+    private final String epoch = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+    private long generation;
+    private volatile Set<Long> touchedDuringRebuild;
+
+    public void put(Long id, String path) {
+        markTouched(id);
+        write(id, path);
+    }
+
+    public void remove(Long id) {
+        markTouched(id);
+        lock.writeLock().lock();
+        try {
+            generation++;
+            detach(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Same contract as SearchIndex.rebuild: files changed live while it runs are left alone.
+    public void rebuild(PathSource source) {
+        touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            source.forEach((id, path) -> {
+                if (!touchedDuringRebuild.contains(id)) {
+                    write(id, path);
+                }
+            });
+        } finally {
+            touchedDuringRebuild = null;
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return root.fileCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Returns null when no file lives at or below the folder. Subfolders come first, then files,
+    // each sorted by name. after is the next token of the previous page, or null for the first one;
+    // a token that was not produced here throws IllegalArgumentException.
+    public Listing list(String path, String after, int limit) {
+        List<String> segments = segments(path);
+        if (segments == null) {
+            return null;
+        }
+        FileEntry position = decode(after);
+        lock.readLock().lock();
+        try {
+            Folder folder = root;
+            for (String segment : segments) {
+                folder = folder.subfolders.get(segment);
+                if (folder == null) {
+                    return null;
+                }
+            }
+            Iterator<Folder> folders;
+            Iterator<FileEntry> files;
+            if (position == null) {
+                folders = folder.subfolders.values().iterator();
+                files = folder.files.iterator();
+            } else if (position.getId() == null) {
+                folders = folder.subfolders.tailMap(position.getName(), false).values().iterator();
+                files = folder.files.iterator();
+            } else {
+                folders = Collections.emptyIterator();
+                files = folder.files.tailSet(position, false).iterator();
+            }
+            List<Entry> entries = new ArrayList<>(Math.min(limit, 256));
+            while (entries.size() < limit && (folders.hasNext() || files.hasNext())) {
+                entries.add(folders.hasNext() ? folders.next().toEntry() : files.next().toEntry());
+            }
+            String next = (folders.hasNext() || files.hasNext()) && !entries.isEmpty() ? encode(entries.getLast()) : null;
+            return new Listing(folder.path(), folder.fileCount, folder.subfolders.size(), folder.files.size(),
+                    entries, next, epoch + "-" + Long.toString(generation, 36));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Long id, String path) {
+        List<String> segments = segments(path);
+        lock.writeLock().lock();
+        try {
+            generation++;
+            detach(id);
+            if (segments == null || segments.isEmpty()) {
+                return;
+            }
+            Folder folder = root;
+            folder.fileCount++;
+            for (String segment : segments.subList(0, segments.size() - 1)) {
+                Folder parent = folder;
+                folder = parent.subfolders.computeIfAbsent(segment, name -> new Folder(name, parent));
+                folder.fileCount++;
+            }
+            FileEntry entry = new FileEntry(id, segments.getLast(), "/" + String.join("/", segments));
+            folder.files.add(entry);
+            filesById.put(id, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock. Folders left without files are pruned.
+    private void detach(Long id) {
+        FileEntry entry = filesById.remove(id);
+        if (entry == null) {
+            return;
+        }
+        List<String> segments = segments(entry.getPath());
+        List<Folder> chain = new ArrayList<>(segments.size());
+        Folder folder = root;
+        chain.add(folder);
+        for (String segment : segments.subList(0, segments.size() - 1)) {
+            folder = folder.subfolders.get(segment);
+            chain.add(folder);
+        }
+        folder.files.remove(entry);
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Folder current = chain.get(i);
+            current.fileCount--;
+            if (i > 0 && current.fileCount == 0) {
+                chain.get(i - 1).subfolders.remove(current.name);
+            }
+        }
+    }
+
+    private static String encode(Entry entry) {
+        String raw = Entry.FOLDER.equals(entry.getType())
+                ? FOLDER_CURSOR + entry.getName()
+                : FILE_CURSOR + entry.getId() + ":" + entry.getName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A folder position has no id; a file position sorts like the file it names.
+    private static FileEntry decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (raw.startsWith(FOLDER_CURSOR)) {
+            return new FileEntry(null, raw.substring(FOLDER_CURSOR.length()), null);
+        }
+        int separator = raw.indexOf(':', FILE_CURSOR.length());
+        if (!raw.startsWith(FILE_CURSOR) || separator < 0) {
+            throw new IllegalArgumentException(token);
+        }
+        return new FileEntry(Long.parseLong(raw.substring(FILE_CURSOR.length(), separator)), raw.substring(separator + 1), null);
+    }
+
+    private void markTouched(Long id) {
+        Set<Long> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(id);
+        }
+    }
+
+    // "/a//b/" and "a/b" both name the folder a/b; null means the path cannot be indexed.
+    static List<String> segments(String path) {
+        if (path == null) {
+            return null;
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                return null;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    public interface PathSource {
+        void forEach(BiConsumer<Long, String> consumer);
+    }
+
+    private static final class Folder {
+
+        private final String name;
+        private final Folder parent;
+        private final TreeMap<String, Folder> subfolders = new TreeMap<>();
+        private final NavigableSet<FileEntry> files = new TreeSet<>(BY_NAME);
+        private long fileCount;
+
+        private Folder(String name, Folder parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        private String path() {
+            return parent == null ? "/" : (parent.parent == null ? "" : parent.path()) + "/" + name;
+        }
+
+        private Entry toEntry() {
+            return new Entry(Entry.FOLDER, null, name, path(), fileCount);
+        }
+    }
+
+    private static final class FileEntry {
+
+        private final Long id;
+        private final String name;
+        private final String path;
+
+        private FileEntry(Long id, String name, String path) {
+            this.id = id;
+            this.name = name;
+            this.path = path;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        private Entry toEntry() {
+            return new Entry(Entry.FILE, id, name, path, 1);
+        }
+    }
+
+    public static final class Entry {
+
+        public static final String FOLDER = "folder";
+        public static final String FILE = "file";
+
+        private final String type;
+        private final Long id;
+        private final String name;
+        private final String path;
+        private final long fileCount;
+
+        Entry(String type, Long id, String name, String path, long fileCount) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.path = path;
+            this.fileCount = fileCount;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public long getFileCount() {
+            return fileCount;
+        }
+    }
+
+    public static final class Listing {
+
+        private final String path;
+        private final long fileCount;
+        private final int folderCount;
+        private final int directFileCount;
+        private final List<Entry> entries;
+        private final String next;
+        private final String version;
+
+        Listing(String path, long fileCount, int folderCount, int directFileCount, List<Entry> entries,
+                String next, String version) {
+            this.path = path;
+            this.fileCount = fileCount;
+            this.folderCount = folderCount;
+            this.directFileCount = directFileCount;
+            this.entries = entries;
+            this.next = next;
+            this.version = version;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public long getFileCount() {
+            return fileCount;
+        }
+
+        public int getFolderCount() {
+            return folderCount;
+        }
+
+        public int getDirectFileCount() {
+            return directFileCount;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        public String getNext() {
+            return next;
+        }
+
+        // Changes with every write to the index, read under the same lock as the entries.
+        public String getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package pexper.projects.project_hub.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.services.AfterCommit;
+
+@Component
+public class DirectoryIndexingListener {
+
+    private final DirectoryIndex directoryIndex;
+
+    public DirectoryIndexingListener(DirectoryIndex directoryIndex) {
+        this.directoryIndex = directoryIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(File file) {
+        Long id = file.getId();
+        String path = file.getPath();
+        AfterCommit.run(() -> directoryIndex.put(id, path));
+    }
+
+    @PostRemove
+    public void removed(File file) {
+        Long id = file.getId();
+        AfterCommit.run(() -> directoryIndex.remove(id));
+    }
+}
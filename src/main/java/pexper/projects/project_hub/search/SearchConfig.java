@@ -0,0 +1,25 @@
+package pexper.projects.project_hub.search;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import pexper.projects.project_hub.config.SearchProperties;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    @Bean
+    public SearchIndex searchIndex(SearchProperties properties) throws IOException {
+        return new SearchIndex(StringUtils.hasText(properties.getIndexDir()) ? Path.of(properties.getIndexDir()) : null);
+    }
+
+    @Bean
+    public DirectoryIndex directoryIndex() {
+        return new DirectoryIndex();
+    }
+}
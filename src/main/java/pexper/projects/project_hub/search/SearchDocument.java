@@ -0,0 +1,96 @@
+package pexper.projects.project_hub.search;
+
+import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.AddressDto;
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.OwnerDto;
+import pexper.projects.project_hub.dto.ProjectDto;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class SearchDocument {
+
+    public static final String PROJECT = "project";
+    public static final String OWNER = "owner";
+    public static final String FILE = "file";
+    public static final String ADDRESS = "address";
+
+    private final String type;
+    private final Long id;
+    private final String title;
+    private final String detail;
+
+    public SearchDocument(String type, Long id, String title, String detail) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.detail = detail;
+    }
+
+    public static SearchDocument of(Project project) {
+        return new SearchDocument(PROJECT, project.getId(), project.getProjectName(), null);
+    }
+
+    public static SearchDocument of(ProjectDto project) {
+        return new SearchDocument(PROJECT, project.getId(), project.getProjectName(), null);
+    }
+
+    public static SearchDocument of(Owner owner) {
+        return new SearchDocument(OWNER, owner.getId(), owner.getName(), owner.getEmail());
+    }
+
+    public static SearchDocument of(OwnerDto owner) {
+        return new SearchDocument(OWNER, owner.getId(), owner.getName(), owner.getEmail());
+    }
+
+    public static SearchDocument of(File file) {
+        return new SearchDocument(FILE, file.getId(), file.getFilename(), file.getPath());
+    }
+
+    public static SearchDocument of(FileRecordDto file) {
+        return new SearchDocument(FILE, file.getId(), file.getFilename(), file.getPath());
+    }
+
+    public static SearchDocument of(Address address) {
+        return new SearchDocument(ADDRESS, address.getId(), join(address.getStreet(), address.getNumber()),
+                join(address.getCity(), address.getState(), address.getZipCode()));
+    }
+
+    public static SearchDocument of(AddressDto address) {
+        return new SearchDocument(ADDRESS, address.getId(), join(address.getStreet(), address.getNumber()),
+                join(address.getCity(), address.getState(), address.getZipCode()));
+    }
+
+    static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static String join(String... parts) {
+        return Stream.of(parts).filter(Objects::nonNull).collect(Collectors.joining(" "));
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    String getKey() {
+        return key(type, id);
+    }
+}
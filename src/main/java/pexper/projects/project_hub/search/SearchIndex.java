@@ -0,0 +1,255 @@
+package pexper.projects.project_hub.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Inverted index over names, emails, file names and paths. Writes go straight to the writer and
+// become visible on the next search; the index is rebuilt from the database on every start, so
+// it is never committed while running.
+public class SearchIndex implements Closeable {
+
+    static final String KEY = "key";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String DETAIL = "detail";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile Set<String> touchedDuringRebuild;
+
+    public SearchIndex(Path indexDir) throws IOException {
+        directory = indexDir == null ? new ByteBuffersDirectory() : FSDirectory.open(indexDir);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                .setCommitOnClose(false));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(SearchDocument document) {
+        markTouched(document.getKey());
+        write(document);
+    }
+
+    public void delete(String type, Long id) {
+        String key = SearchDocument.key(type, id);
+        markTouched(key);
+        try {
+            writer.deleteDocuments(new Term(KEY, key));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // Documents written by the live listeners while a rebuild runs are newer than the rebuild's
+    // snapshot, so the rebuild leaves them alone.
+    public void rebuild(DocumentSource source) {
+        touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            source.forEach(document -> {
+                if (!touchedDuringRebuild.contains(document.getKey())) {
+                    write(document);
+                }
+            });
+        } finally {
+            touchedDuringRebuild = null;
+        }
+    }
+
+    public SearchResult search(String text, String type, int offset, int limit) {
+        Query query = query(text, type);
+        if (query == null) {
+            return new SearchResult(List.of(), 0, false);
+        }
+        try {
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, offset + limit + 1);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHit> hits = new ArrayList<>(limit);
+                for (int i = offset; i < Math.min(top.scoreDocs.length, offset + limit); i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document document = storedFields.document(scoreDoc.doc);
+                    hits.add(new SearchHit(new SearchDocument(document.get(TYPE),
+                            document.getField(ID).numericValue().longValue(), document.get(TITLE),
+                            document.get(DETAIL)), scoreDoc.score));
+                }
+                return new SearchResult(hits, top.totalHits.value(), top.scoreDocs.length > offset + limit);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // Every query term has to match a title or detail term exactly, as a prefix, or within one
+    // or two edits; exact matches rank above prefixes, prefixes above fuzzy matches, and titles
+    // above details.
+    Query query(String text, String type) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            addMatches(any, TITLE, term, 2f);
+            addMatches(any, DETAIL, term, 1f);
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+        if (type != null) {
+            all.add(new TermQuery(new Term(TYPE, type)), BooleanClause.Occur.FILTER);
+        }
+        return all.build();
+    }
+
+    private static void addMatches(BooleanQuery.Builder any, String field, String term, float weight) {
+        Term fieldTerm = new Term(field, term);
+        any.add(new BoostQuery(new TermQuery(fieldTerm), 4f * weight), BooleanClause.Occur.SHOULD);
+        if (term.length() >= 2) {
+            any.add(new BoostQuery(new PrefixQuery(fieldTerm), 2f * weight), BooleanClause.Occur.SHOULD);
+        }
+        if (term.length() >= 4) {
+            // A shared first character keeps fuzzy expansion cheap on large term dictionaries.
+            int maxEdits = term.length() >= 7 ? 2 : 1;
+            any.add(new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits, 1), weight), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return terms;
+    }
+
+    private void write(SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, source.getKey(), Field.Store.NO));
+        document.add(new StringField(TYPE, source.getType(), Field.Store.YES));
+        document.add(new StoredField(ID, source.getId()));
+        if (source.getTitle() != null) {
+            document.add(new TextField(TITLE, source.getTitle(), Field.Store.YES));
+        }
+        if (source.getDetail() != null) {
+            document.add(new TextField(DETAIL, source.getDetail(), Field.Store.YES));
+        }
+        try {
+            writer.updateDocument(new Term(KEY, source.getKey()), document);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void markTouched(String key) {
+        Set<String> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(key);
+        }
+    }
+
+    public interface DocumentSource {
+        void forEach(Consumer<SearchDocument> consumer);
+    }
+
+    public static final class SearchHit {
+
+        private final SearchDocument document;
+        private final float score;
+
+        SearchHit(SearchDocument document, float score) {
+            this.document = document;
+            this.score = score;
+        }
+
+        public SearchDocument getDocument() {
+            return document;
+        }
+
+        public float getScore() {
+            return score;
+        }
+    }
+
+    public static final class SearchResult {
+
+        private final List<SearchHit> hits;
+        private final long totalHits;
+        private final boolean hasNext;
+
+        SearchResult(List<SearchHit> hits, long totalHits, boolean hasNext) {
+            this.hits = hits;
+            this.totalHits = totalHits;
+            this.hasNext = hasNext;
+        }
+
+        public List<SearchHit> getHits() {
+            return hits;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+
+        public boolean isHasNext() {
+            return hasNext;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package pexper.projects.project_hub.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.services.AddressService;
+import pexper.projects.project_hub.services.FileService;
+import pexper.projects.project_hub.services.OwnerService;
+import pexper.projects.project_hub.services.ProjectService;
+
+// Fills the indexes from the database before the application reports ready to take traffic.
+// Each rebuild streams whole tables onto this instance's heap; the log line makes its cost
+// visible as the data grows.
+@Component
+public class SearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexLoader.class);
+
+    private final SearchIndex searchIndex;
+    private final DirectoryIndex directoryIndex;
+    private final ProjectService projectService;
+    private final OwnerService ownerService;
+    private final FileService fileService;
+    private final AddressService addressService;
+
+    public SearchIndexLoader(SearchIndex searchIndex,
+                             DirectoryIndex directoryIndex,
+                             ProjectService projectService,
+                             OwnerService ownerService,
+                             FileService fileService,
+                             AddressService addressService) {
+        this.searchIndex = searchIndex;
+        this.directoryIndex = directoryIndex;
+        this.projectService = projectService;
+        this.ownerService = ownerService;
+        this.fileService = fileService;
+        this.addressService = addressService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        searchIndex.rebuild(consumer -> {
+            projectService.streamAll(project -> consumer.accept(SearchDocument.of(project)));
+            ownerService.streamAll(owner -> consumer.accept(SearchDocument.of(owner)));
+            fileService.streamAll(file -> consumer.accept(SearchDocument.of(file)));
+            addressService.streamAll(address -> consumer.accept(SearchDocument.of(address)));
+        });
+        long searchBuilt = System.nanoTime();
+        directoryIndex.rebuild(consumer -> fileService.streamAll(file -> consumer.accept(file.getId(), file.getPath())));
+        log.info("Search index rebuilt in {} ms; directory index rebuilt with {} files in {} ms",
+                (searchBuilt - started) / 1_000_000, directoryIndex.size(), (System.nanoTime() - searchBuilt) / 1_000_000);
+    }
+}
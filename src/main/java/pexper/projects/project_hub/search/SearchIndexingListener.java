@@ -0,0 +1,52 @@
+package pexper.projects.project_hub.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.services.AfterCommit;
+
+// The document is captured when the entity changes and applied once the transaction commits, so
+// rolled-back writes never reach the index.
+@Component
+public class SearchIndexingListener {
+
+    private final SearchIndex searchIndex;
+
+    public SearchIndexingListener(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        SearchDocument document = documentOf(entity);
+        AfterCommit.run(() -> searchIndex.index(document));
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        SearchDocument document = documentOf(entity);
+        AfterCommit.run(() -> searchIndex.delete(document.getType(), document.getId()));
+    }
+
+    private static SearchDocument documentOf(Object entity) {
+        if (entity instanceof Project project) {
+            return SearchDocument.of(project);
+        }
+        if (entity instanceof Owner owner) {
+            return SearchDocument.of(owner);
+        }
+        if (entity instanceof File file) {
+            return SearchDocument.of(file);
+        }
+        if (entity instanceof Address address) {
+            return SearchDocument.of(address);
+        }
+        throw new IllegalArgumentException("Not searchable: " + entity.getClass().getName());
+    }
+}
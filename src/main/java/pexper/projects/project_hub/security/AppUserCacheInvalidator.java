@@ -0,0 +1,25 @@
+package pexper.projects.project_hub.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.domain.AppUser;
+import pexper.projects.project_hub.services.AfterCommit;
+
+@Component
+public class AppUserCacheInvalidator {
+
+    private final UserCache userCache;
+
+    public AppUserCacheInvalidator(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(AppUser user) {
+        String username = user.getUsername();
+        AfterCommit.run(() -> userCache.removeUserFromCache(username));
+    }
+}
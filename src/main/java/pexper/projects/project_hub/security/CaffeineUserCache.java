@@ -0,0 +1,38 @@
+package pexper.projects.project_hub.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.config.AuthProperties;
+
+@Component
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public CaffeineUserCache(AuthProperties authProperties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getUserCacheMaxSize())
+                .expireAfterWrite(authProperties.getUserCacheTtl())
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        // Store an immutable snapshot rather than the (detached) AppUser entity.
+        cache.put(user.getUsername(), User.withUserDetails(user).build());
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+}
@@ -1,5 +1,8 @@
 package pexper.projects.project_hub.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.JwsHeader;
@@ -11,8 +14,13 @@ import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 import pexper.projects.project_hub.config.JwtProperties;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
 
 @Service
 public class JwtService {
@@ -20,11 +28,16 @@ public class JwtService {
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
     private final JwtProperties jwtProperties;
+    private final Cache<String, Jwt> verifiedTokens;
 
     public JwtService(JwtEncoder jwtEncoder, JwtDecoder jwtDecoder, JwtProperties jwtProperties) {
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
         this.jwtProperties = jwtProperties;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String hash, Jwt jwt) -> remainingLifetime(jwt)))
+                .build();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -43,13 +56,32 @@ public class JwtService {
         return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
     }
 
-    public String extractUsername(String token) {
-        return jwtDecoder.decode(token).getSubject();
+    // Signature and timestamp checks run once per token; repeat requests reuse the verified Jwt
+    // until the token's own expiry. Keys are SHA-256 digests so raw tokens are not retained.
+    public Jwt decode(String token) {
+        return verifiedTokens.get(digest(token), hash -> jwtDecoder.decode(token));
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        Jwt jwt = jwtDecoder.decode(token);
+    public boolean isTokenValid(Jwt jwt, UserDetails userDetails) {
         String username = jwt.getSubject();
         return username != null && username.equals(userDetails.getUsername());
     }
+
+    private static Duration remainingLifetime(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
 }
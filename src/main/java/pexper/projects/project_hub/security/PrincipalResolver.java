@@ -0,0 +1,52 @@
+package pexper.projects.project_hub.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.config.AuthProperties;
+
+import java.util.List;
+
+@Component
+public class PrincipalResolver {
+
+    private final UserDetailsService userDetailsService;
+    private final UserCache userCache;
+    private final AuthProperties authProperties;
+
+    public PrincipalResolver(UserDetailsService userDetailsService, UserCache userCache, AuthProperties authProperties) {
+        this.userDetailsService = userDetailsService;
+        this.userCache = userCache;
+        this.authProperties = authProperties;
+    }
+
+    public UserDetails resolve(Jwt jwt) {
+        String username = jwt.getSubject();
+        return switch (authProperties.getPrincipalStrategy()) {
+            case DATABASE -> userDetailsService.loadUserByUsername(username);
+            case CACHE -> loadCached(username);
+            case TOKEN -> fromClaims(username, jwt.getClaimAsString("role"));
+        };
+    }
+
+    private UserDetails loadCached(String username) {
+        UserDetails cached = userCache.getUserFromCache(username);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        userCache.putUserInCache(loaded);
+        return loaded;
+    }
+
+    private UserDetails fromClaims(String username, String role) {
+        return User.withUsername(username)
+                .password("")
+                .authorities(List.of(new SimpleGrantedAuthority(role != null ? role : "ROLE_USER")))
+                .build();
+    }
+}
@@ -3,16 +3,30 @@ package pexper.projects.project_hub.services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.dto.AddressDto;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AddressService {
-    List<Address> findAll();
+    List<AddressDto> findAll();
 
-    Page<Address> findAll(Pageable pageable);
+    void streamAll(Consumer<AddressDto> consumer);
 
-    Optional<Address> findById(Long id);
+    Page<AddressDto> findAll(Pageable pageable);
+
+    PageSlice<AddressDto> findSlice(Pageable pageable);
+
+    CursorSlice<AddressDto> findAfter(String after, int size);
+
+    Optional<AddressDto> findById(Long id);
+
+    Optional<Address> findWithOwnerById(Long id);
+
+    Optional<Address> findWithProjectById(Long id);
 
     Address save(Address address);
 
@@ -2,40 +2,83 @@ package pexper.projects.project_hub.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.dto.AddressDto;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.repositories.AddressRepository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class AddressServiceImpl implements AddressService {
 
     private final AddressRepository addressRepository;
+    private final RowCountEstimates rowCountEstimates;
 
-    public AddressServiceImpl(AddressRepository addressRepository) {
+    public AddressServiceImpl(AddressRepository addressRepository, RowCountEstimates rowCountEstimates) {
         this.addressRepository = addressRepository;
+        this.rowCountEstimates = rowCountEstimates;
     }
 
     @Override
-    public List<Address> findAll() {
-        List<Address> addresses = new ArrayList<>();
-        addressRepository.findAll().forEach(addresses::add);
-        return addresses;
+    @Transactional(readOnly = true)
+    public List<AddressDto> findAll() {
+        return addressRepository.findAllProjectedBy();
     }
 
     @Override
-    public Page<Address> findAll(Pageable pageable) {
-        return addressRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<AddressDto> consumer) {
+        try (Stream<AddressDto> rows = addressRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AddressDto> findAll(Pageable pageable) {
+        return addressRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageSlice<AddressDto> findSlice(Pageable pageable) {
+        Slice<AddressDto> slice = addressRepository.findSliceProjectedBy(pageable);
+        return new PageSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), rowCountEstimates.estimate(Address.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<AddressDto> findAfter(String after, int size) {
+        long afterId = KeysetCursor.decode(after);
+        return KeysetCursor.toCursorSlice(addressRepository.findProjectedByIdGreaterThan(afterId, KeysetCursor.firstPage(size)), AddressDto::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<AddressDto> findById(Long id) {
+        return addressRepository.findProjectedById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Address> findWithOwnerById(Long id) {
+        return addressRepository.findWithOwnerById(id);
     }
 
     @Override
-    public Optional<Address> findById(Long id) {
-        return addressRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<Address> findWithProjectById(Long id) {
+        return addressRepository.findWithProjectById(id);
     }
 
     @Override
@@ -48,6 +91,7 @@ public class AddressServiceImpl implements AddressService {
         Address existing = addressRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found: " + id));
         address.setId(existing.getId());
+        address.setVersion(existing.getVersion());
         return addressRepository.save(address);
     }
 
@@ -0,0 +1,39 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+final class Batches {
+
+    static final int MAX_ITEMS = 1000;
+
+    private Batches() {
+    }
+
+    static void requireWithinLimit(List<?> items) {
+        if (items == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch body must be an array");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch too large: " + items.size() + " items (max " + MAX_ITEMS + ")");
+        }
+    }
+
+    static <T> Set<Long> idsOf(List<T> items, Function<T, Long> idExtractor) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (T item : items) {
+            if (item != null) {
+                Long id = idExtractor.apply(item);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,9 @@
+package pexper.projects.project_hub.services;
+
+import pexper.projects.project_hub.exports.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+    void export(ExportFormat format, boolean gzip, OutputStream out);
+}
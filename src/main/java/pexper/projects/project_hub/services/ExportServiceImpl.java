@@ -0,0 +1,114 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.config.ExportProperties;
+import pexper.projects.project_hub.exports.ExportFormat;
+import pexper.projects.project_hub.exports.ExportWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+// Reads every table with plain JDBC cursors (fetchSize rows per round trip) and writes each row
+// to the output as it arrives, so nothing is materialised beyond one fetch. All tables are read
+// in one read-only REPEATABLE_READ transaction, which gives the export a single snapshot.
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    // Column names follow the API's field names, so exported rows read like the DTOs.
+    private static final List<ExportTable> TABLES = List.of(
+            new ExportTable("project", "select id, project_name, address_id, version from project order by id",
+                    List.of("id", "projectName", "addressId", "version")),
+            new ExportTable("owner", "select id, name, email, address_id, version from owner order by id",
+                    List.of("id", "name", "email", "addressId", "version")),
+            new ExportTable("address", "select id, street, city, state, number, zip_code, version from address order by id",
+                    List.of("id", "street", "city", "state", "number", "zipCode", "version")),
+            new ExportTable("file", "select id, filename, path, project_id, version from file order by id",
+                    List.of("id", "filename", "path", "projectId", "version")),
+            new ExportTable("owner_project", "select project_id, owner_id from owner_project order by project_id, owner_id",
+                    List.of("projectId", "ownerId")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final ExportProperties properties;
+
+    public ExportServiceImpl(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             JsonMapper jsonMapper,
+                             ExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public void export(ExportFormat format, boolean gzip, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                GZIPOutputStream compressed = format.isGzipped(gzip) ? new GZIPOutputStream(out, properties.getBufferSize()) : null;
+                BufferedOutputStream buffered = new BufferedOutputStream(compressed != null ? compressed : out, properties.getBufferSize());
+                ExportWriter writer = ExportWriter.open(format, buffered, jsonMapper);
+                Map<String, Long> rowCounts = new LinkedHashMap<>();
+                for (ExportTable table : TABLES) {
+                    rowCounts.put(table.name, write(writer, table));
+                }
+                writer.finish(rowCounts);
+                buffered.flush();
+                if (compressed != null) {
+                    compressed.finish();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private long write(ExportWriter writer, ExportTable table) throws IOException {
+        writer.startTable(table.name, table.columns);
+        long[] rows = {0};
+        Object[] values = new Object[table.columns.size()];
+        jdbcTemplate.query(table.sql, (RowCallbackHandler) resultSet -> {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(i + 1);
+            }
+            try {
+                writer.row(values);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            rows[0]++;
+        });
+        writer.endTable();
+        return rows[0];
+    }
+
+    private static final class ExportTable {
+
+        private final String name;
+        private final String sql;
+        private final List<String> columns;
+
+        private ExportTable(String name, String sql, List<String> columns) {
+            this.name = name;
+            this.sql = sql;
+            this.columns = columns;
+        }
+    }
+}
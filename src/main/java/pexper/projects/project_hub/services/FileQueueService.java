@@ -0,0 +1,14 @@
+package pexper.projects.project_hub.services;
+
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.FileTicketDto;
+
+import java.util.Optional;
+
+public interface FileQueueService {
+    boolean isEnabled();
+
+    FileTicketDto enqueue(FileRecordDto fileRecord);
+
+    Optional<FileTicketDto> findTicket(String ticket);
+}
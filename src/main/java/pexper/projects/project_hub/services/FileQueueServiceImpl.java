@@ -0,0 +1,240 @@
+package pexper.projects.project_hub.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.config.WriteBehindProperties;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.FileTicketDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write-behind for file registrations: accepted records wait in a bounded queue and one writer
+// task on the "write-behind" executor stores them through FileService.saveAll, a batch per transaction. A full queue answers
+// 429 instead of blocking the caller. On shutdown the queue stops accepting and is drained before
+// the DataSource goes away.
+@Service
+public class FileQueueServiceImpl implements FileQueueService, SmartLifecycle {
+
+    static final String QUEUE_DEPTH = "app.write-behind.queue.depth";
+    static final String FLUSH = "app.write-behind.flush";
+    static final String LAG = "app.write-behind.lag";
+    static final String REJECTED = "app.write-behind.rejected";
+
+    private static final Logger log = LoggerFactory.getLogger(FileQueueServiceImpl.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final FileService fileService;
+    private final WriteBehindProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor writerExecutor;
+    private final BlockingQueue<PendingFile> queue;
+    private final Cache<String, FileTicketDto> tickets;
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private final Timer lag;
+    private final Counter rejected;
+    private volatile boolean running;
+    private Future<?> writer;
+
+    public FileQueueServiceImpl(FileService fileService, WriteBehindProperties properties, MeterRegistry meterRegistry,
+                                @Qualifier("write-behind") AsyncTaskExecutor writerExecutor) {
+        this.fileService = fileService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.writerExecutor = writerExecutor;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTickets())
+                .expireAfterWrite(properties.getTicketTtl())
+                .build();
+        this.lag = Timer.builder(LAG).register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED).register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH, queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public FileTicketDto enqueue(FileRecordDto fileRecord) {
+        FileRecordDto record = new FileRecordDto(null, fileRecord.getFilename(), fileRecord.getPath(), fileRecord.getProjectId());
+        FileTicketDto ticket = new FileTicketDto(UUID.randomUUID().toString(), FileTicketDto.PENDING, null, null, null);
+        // The read lock lets callers enqueue concurrently; stop() takes the write lock so nothing
+        // lands in the queue after the writer has seen it empty for the last time.
+        acceptLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "File queue is not accepting records");
+            }
+            tickets.put(ticket.getTicket(), ticket);
+            if (!queue.offer(new PendingFile(ticket.getTicket(), record, System.nanoTime()))) {
+                tickets.invalidate(ticket.getTicket());
+                rejected.increment();
+                throw new QueueFullException();
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        return ticket;
+    }
+
+    @Override
+    public Optional<FileTicketDto> findTicket(String ticket) {
+        return Optional.ofNullable(tickets.getIfPresent(ticket));
+    }
+
+    @Override
+    public void start() {
+        // Disabled, nothing is ever enqueued: no writer task, and stop() is never called.
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = writerExecutor.submit(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        try {
+            writer.get(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.error("File queue still held {} records after {}", queue.size(), properties.getShutdownTimeout());
+            writer.cancel(true);
+        } catch (ExecutionException ex) {
+            log.error("File queue writer failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops after the web server, so no request can enqueue while the queue drains.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        int batchSize = Math.clamp(properties.getBatchSize(), 1, Batches.MAX_ITEMS);
+        List<PendingFile> batch = new ArrayList<>(batchSize);
+        while (true) {
+            PendingFile first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                // Once stop() has closed the queue, an interrupt means it gave up waiting for the rest.
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            if (first == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingFile> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "batch";
+        try {
+            List<BatchItemResult<FileRecordDto>> results = fileService.saveAll(batch.stream().map(pending -> pending.record).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), results.get(i));
+            }
+        } catch (RuntimeException ex) {
+            // A row the database rejects fails the whole batch; retrying one by one pins it down.
+            outcome = "replay";
+            log.warn("Write-behind batch of {} files failed, retrying one by one", batch.size(), ex);
+            for (PendingFile pending : batch) {
+                try {
+                    complete(pending, fileService.saveAll(List.of(pending.record)).getFirst());
+                } catch (RuntimeException rowEx) {
+                    tickets.put(pending.ticket, new FileTicketDto(pending.ticket, FileTicketDto.FAILED, null,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(), rowEx.getMessage()));
+                }
+            }
+        } finally {
+            sample.stop(Timer.builder(FLUSH).tag("outcome", outcome).register(meterRegistry));
+        }
+    }
+
+    private void complete(PendingFile pending, BatchItemResult<FileRecordDto> result) {
+        FileTicketDto ticket = result.getError() == null
+                ? new FileTicketDto(pending.ticket, FileTicketDto.CREATED, result.getItem().getId(), null, null)
+                : new FileTicketDto(pending.ticket, FileTicketDto.FAILED, null, result.getStatus(), result.getError());
+        tickets.put(pending.ticket, ticket);
+        lag.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class PendingFile {
+
+        private final String ticket;
+        private final FileRecordDto record;
+        private final long enqueuedAt;
+
+        private PendingFile(String ticket, FileRecordDto record, long enqueuedAt) {
+            this.ticket = ticket;
+            this.record = record;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private static final class QueueFullException extends ResponseStatusException {
+
+        private QueueFullException() {
+            super(HttpStatus.TOO_MANY_REQUESTS, "File queue is full");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return headers;
+        }
+    }
+}
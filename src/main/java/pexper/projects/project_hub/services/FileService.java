@@ -2,21 +2,36 @@ package pexper.projects.project_hub.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.DirectoryListingDto;
 import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.PageSlice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface FileService {
     List<FileRecordDto> findAll();
 
+    void streamAll(Consumer<FileRecordDto> consumer);
+
     Page<FileRecordDto> findAll(Pageable pageable);
 
+    PageSlice<FileRecordDto> findSlice(Pageable pageable);
+
+    CursorSlice<FileRecordDto> findAfter(String after, int size);
+
     Optional<FileRecordDto> findById(Long id);
 
+    DirectoryListingDto listDirectory(String path, String after, int size);
+
     FileRecordDto save(FileRecordDto fileRecord);
 
     FileRecordDto update(Long id, FileRecordDto fileRecord);
 
+    List<BatchItemResult<FileRecordDto>> saveAll(List<FileRecordDto> fileRecords);
+
     void deleteById(Long id);
 }
@@ -2,48 +2,112 @@ package pexper.projects.project_hub.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.File;
-import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.DirectoryEntryDto;
+import pexper.projects.project_hub.dto.DirectoryListingDto;
 import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.repositories.FileRepository;
 import pexper.projects.project_hub.repositories.ProjectRepository;
+import pexper.projects.project_hub.search.DirectoryIndex;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class FileServiceImpl implements FileService {
 
     private final FileRepository fileRepository;
     private final ProjectRepository projectRepository;
+    private final RowCountEstimates rowCountEstimates;
+    private final DirectoryIndex directoryIndex;
 
-    public FileServiceImpl(FileRepository fileRepository, ProjectRepository projectRepository) {
+    public FileServiceImpl(FileRepository fileRepository, ProjectRepository projectRepository,
+                           RowCountEstimates rowCountEstimates, DirectoryIndex directoryIndex) {
         this.fileRepository = fileRepository;
         this.projectRepository = projectRepository;
+        this.rowCountEstimates = rowCountEstimates;
+        this.directoryIndex = directoryIndex;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<FileRecordDto> findAll() {
-        List<FileRecordDto> files = new ArrayList<>();
-        fileRepository.findAll().forEach(file -> files.add(toDto(file)));
-        return files;
+        return fileRepository.findAllRecords();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<FileRecordDto> consumer) {
+        try (Stream<FileRecordDto> rows = fileRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<FileRecordDto> findAll(Pageable pageable) {
-        return fileRepository.findAll(pageable).map(this::toDto);
+        return fileRepository.findAllRecords(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageSlice<FileRecordDto> findSlice(Pageable pageable) {
+        Slice<FileRecordDto> slice = fileRepository.findRecordSlice(pageable);
+        return new PageSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), rowCountEstimates.estimate(File.class));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<FileRecordDto> findAfter(String after, int size) {
+        long afterId = KeysetCursor.decode(after);
+        return KeysetCursor.toCursorSlice(fileRepository.findRecordsByIdGreaterThan(afterId, KeysetCursor.firstPage(size)), FileRecordDto::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<FileRecordDto> findById(Long id) {
-        return fileRepository.findById(id).map(this::toDto);
+        return fileRepository.findRecordById(id);
+    }
+
+    @Override
+    public DirectoryListingDto listDirectory(String path, String after, int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be positive: " + size);
+        }
+        DirectoryIndex.Listing listing;
+        try {
+            listing = directoryIndex.list(path, after, size);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + after);
+        }
+        if (listing == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Directory not found: " + path);
+        }
+        List<DirectoryEntryDto> entries = listing.getEntries().stream()
+                .map(entry -> new DirectoryEntryDto(entry.getType(), entry.getId(), entry.getName(), entry.getPath(), entry.getFileCount()))
+                .toList();
+        return new DirectoryListingDto(listing.getPath(), listing.getFileCount(), listing.getFolderCount(),
+                listing.getDirectFileCount(), entries, size, listing.getNext(), listing.getVersion());
     }
 
     @Override
+    @Transactional
     public FileRecordDto save(FileRecordDto fileRecord) {
         File file = new File();
         applyDto(file, fileRecord);
@@ -51,6 +115,7 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
+    @Transactional
     public FileRecordDto update(Long id, FileRecordDto fileRecord) {
         File existing = fileRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + id));
@@ -58,6 +123,47 @@ public class FileServiceImpl implements FileService {
         return toDto(fileRepository.save(existing));
     }
 
+    @Override
+    @Transactional
+    public List<BatchItemResult<FileRecordDto>> saveAll(List<FileRecordDto> fileRecords) {
+        Batches.requireWithinLimit(fileRecords);
+        Set<Long> projectIds = Batches.idsOf(fileRecords, FileRecordDto::getProjectId);
+        Set<Long> knownProjectIds = projectIds.isEmpty() ? Set.of() : projectRepository.findExistingIds(projectIds);
+        Set<Long> fileIds = Batches.idsOf(fileRecords, FileRecordDto::getId);
+        Map<Long, File> existingFiles = fileIds.isEmpty() ? Map.of() : fileRepository.findAllById(fileIds).stream()
+                .collect(Collectors.toMap(File::getId, Function.identity()));
+
+        List<BatchItemResult<FileRecordDto>> results = new ArrayList<>(fileRecords.size());
+        Map<Integer, File> accepted = new LinkedHashMap<>();
+        for (int index = 0; index < fileRecords.size(); index++) {
+            FileRecordDto fileRecord = fileRecords.get(index);
+            if (fileRecord == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, "Item must not be null"));
+                continue;
+            }
+            File file = fileRecord.getId() == null ? new File() : existingFiles.get(fileRecord.getId());
+            if (file == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "File not found: " + fileRecord.getId()));
+                continue;
+            }
+            Long projectId = fileRecord.getProjectId();
+            if (projectId != null && !knownProjectIds.contains(projectId)) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "Project not found: " + projectId));
+                continue;
+            }
+            file.setFilename(fileRecord.getFilename());
+            file.setPath(fileRecord.getPath());
+            file.setProject(projectId == null ? null : projectRepository.getReferenceById(projectId));
+            accepted.put(index, file);
+            results.add(null);
+        }
+
+        fileRepository.saveAll(accepted.values());
+        accepted.forEach((index, file) -> results.set(index, BatchItemResult.success(index,
+                fileRecords.get(index).getId() == null ? HttpStatus.CREATED : HttpStatus.OK, toDto(file))));
+        return results;
+    }
+
     @Override
     public void deleteById(Long id) {
         if (!fileRepository.existsById(id)) {
@@ -66,26 +172,31 @@ public class FileServiceImpl implements FileService {
         fileRepository.deleteById(id);
     }
 
-    private FileRecordDto toDto(File file) {
+    FileRecordDto toDto(File file) {
         FileRecordDto dto = new FileRecordDto();
         dto.setId(file.getId());
         dto.setFilename(file.getFilename());
         dto.setPath(file.getPath());
         dto.setProjectId(file.getProject() != null ? file.getProject().getId() : null);
+        dto.setVersion(file.getVersion());
         return dto;
     }
 
-    private void applyDto(File file, FileRecordDto dto) {
+    void applyDto(File file, FileRecordDto dto) {
         file.setFilename(dto.getFilename());
         file.setPath(dto.getPath());
 
-        if (dto.getProjectId() == null) {
+        Long projectId = dto.getProjectId();
+        if (projectId == null) {
             file.setProject(null);
             return;
         }
-
-        Project project = projectRepository.findById(dto.getProjectId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + dto.getProjectId()));
-        file.setProject(project);
+        if (file.getProject() != null && projectId.equals(file.getProject().getId())) {
+            return;
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + projectId);
+        }
+        file.setProject(projectRepository.getReferenceById(projectId));
     }
 }
@@ -0,0 +1,13 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.http.MediaType;
+import pexper.projects.project_hub.dto.ImportJobDto;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface ImportService {
+    ImportJobDto start(String target, MediaType contentType, InputStream body);
+
+    Optional<ImportJobDto> findById(String id);
+}
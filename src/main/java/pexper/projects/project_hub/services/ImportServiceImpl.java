@@ -0,0 +1,367 @@
+package pexper.projects.project_hub.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.config.ImportProperties;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.ImportJobDto;
+import pexper.projects.project_hub.dto.ImportLineErrorDto;
+import pexper.projects.project_hub.imports.ImportFormat;
+import pexper.projects.project_hub.imports.ImportJob;
+import pexper.projects.project_hub.imports.ImportRecord;
+import pexper.projects.project_hub.imports.ImportRecordReader;
+import pexper.projects.project_hub.repositories.FileRepository;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+// Uploads are spooled to disk and handed to a worker, so the request returns a job id as soon as
+// the body has been received. The worker reads the spool one line at a time and writes every
+// batchSize records in their own transaction; batches committed before a failure stay committed.
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    static final String FILES = "files";
+    static final String OWNERS = "owners";
+
+    private static final Logger log = LoggerFactory.getLogger(ImportServiceImpl.class);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ImportProperties properties;
+    private final ProjectRepository projectRepository;
+    private final FileRepository fileRepository;
+    private final OwnerRepository ownerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final Semaphore running;
+    private final AsyncTaskExecutor executor;
+    private volatile boolean closing;
+
+    public ImportServiceImpl(ImportProperties properties,
+                             ProjectRepository projectRepository,
+                             FileRepository fileRepository,
+                             OwnerRepository ownerRepository,
+                             PlatformTransactionManager transactionManager,
+                             JsonMapper jsonMapper,
+                             @Qualifier("import") AsyncTaskExecutor executor) {
+        this.properties = properties;
+        this.projectRepository = projectRepository;
+        this.fileRepository = fileRepository;
+        this.ownerRepository = ownerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.slots = new Semaphore(properties.getMaxConcurrentJobs() + properties.getMaxQueuedJobs());
+        this.running = new Semaphore(properties.getMaxConcurrentJobs());
+        this.executor = executor;
+    }
+
+    @Override
+    public ImportJobDto start(String target, MediaType contentType, InputStream body) {
+        if (!FILES.equals(target) && !OWNERS.equals(target)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown import target: " + target);
+        }
+        ImportFormat format = ImportFormat.of(contentType);
+        if (format == null) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Imports accept "
+                    + ImportFormat.NDJSON.getMediaType() + " or " + ImportFormat.CSV.getMediaType());
+        }
+        if (closing) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Imports are shutting down");
+        }
+        // Taking the slot before spooling turns overload away without reading the upload.
+        if (!slots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many imports in progress");
+        }
+        Path spool = null;
+        boolean submitted = false;
+        try {
+            spool = StringUtils.hasText(properties.getSpoolDir())
+                    ? Files.createTempFile(Path.of(properties.getSpoolDir()), "import-", ".spool")
+                    : Files.createTempFile("import-", ".spool");
+            long size = spool(body, spool);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), target, format, size, properties.getMaxErrors());
+            Path file = spool;
+            executor.execute(() -> {
+                try {
+                    runWhenAdmitted(job, file);
+                } finally {
+                    slots.release();
+                }
+            });
+            submitted = true;
+            register(job);
+            return toDto(job);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (TaskRejectedException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Imports are shutting down");
+        } finally {
+            if (!submitted) {
+                slots.release();
+                delete(spool);
+            }
+        }
+    }
+
+    @Override
+    public Optional<ImportJobDto> findById(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(this::toDto);
+    }
+
+    // The executor closes after this bean and gives running jobs shutdown-timeout to finish. Queued
+    // jobs that get a turn in the meantime end INTERRUPTED without starting.
+    @PreDestroy
+    void shutdown() {
+        closing = true;
+    }
+
+    void runWhenAdmitted(ImportJob job, Path spool) {
+        try {
+            running.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.interrupted("Shut down before the import started");
+            delete(spool);
+            return;
+        }
+        try {
+            if (closing) {
+                job.interrupted("Shut down before the import started");
+                delete(spool);
+            } else {
+                run(job, spool);
+            }
+        } finally {
+            running.release();
+        }
+    }
+
+    void run(ImportJob job, Path spool) {
+        job.started();
+        try (SeekableByteChannel channel = Files.newByteChannel(spool);
+             ImportRecordReader reader = ImportRecordReader.open(job.getFormat(),
+                     new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8),
+                     jsonMapper, properties.getMaxLineLength())) {
+            Set<Long> projectIds = FILES.equals(job.getTarget()) ? new HashSet<>(projectRepository.findAllIds()) : Set.of();
+            int batchSize = Math.max(properties.getBatchSize(), 1);
+            List<ImportRecord> batch = new ArrayList<>(batchSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                if (record.getError() != null) {
+                    job.reject(record.getLineNumber(), record.getError());
+                } else {
+                    batch.add(record);
+                    if (batch.size() == batchSize) {
+                        write(job, batch, projectIds);
+                        batch.clear();
+                        // Stop between batches once shutdown has interrupted the worker.
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new InterruptedIOException("Import interrupted");
+                        }
+                    }
+                }
+                job.progress(channel.position(), reader.getLineNumber());
+            }
+            write(job, batch, projectIds);
+            job.progress(job.getBytesTotal(), reader.getLineNumber());
+            job.completed();
+        } catch (IOException | RuntimeException ex) {
+            // An interrupt can also surface as a closed spool channel or a failed statement.
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Import {} of {} interrupted by shutdown after {} records", job.getId(), job.getTarget(), job.getImported());
+                job.interrupted("Interrupted by shutdown after " + job.getImported() + " records");
+            } else {
+                log.warn("Import {} of {} failed after {} records", job.getId(), job.getTarget(), job.getImported(), ex);
+                job.failed(ex.getMessage());
+            }
+        } finally {
+            delete(spool);
+        }
+    }
+
+    private void write(ImportJob job, List<ImportRecord> batch, Set<Long> projectIds) {
+        List<ImportRecord> accepted = FILES.equals(job.getTarget()) ? resolveProjects(job, batch, projectIds) : batch;
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(job.getTarget(), accepted));
+            job.imported(accepted.size());
+        } catch (DataAccessException ex) {
+            // One rejected row rolls back its whole batch; replaying the batch row by row keeps
+            // the good rows and reports the bad ones against their lines.
+            for (ImportRecord record : accepted) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(job.getTarget(), List.of(record)));
+                    job.imported(1);
+                } catch (DataAccessException rowEx) {
+                    job.reject(record.getLineNumber(), rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    // Ids missing from the preloaded set are looked up once per batch, which picks up projects
+    // created after the import started.
+    private List<ImportRecord> resolveProjects(ImportJob job, List<ImportRecord> batch, Set<Long> projectIds) {
+        List<ImportRecord> parsed = new ArrayList<>(batch.size());
+        Set<Long> misses = new HashSet<>();
+        for (ImportRecord record : batch) {
+            Long projectId;
+            try {
+                projectId = projectId(record);
+            } catch (NumberFormatException ex) {
+                job.reject(record.getLineNumber(), "Invalid projectId: " + record.get("projectId"));
+                continue;
+            }
+            if (projectId != null && !projectIds.contains(projectId)) {
+                misses.add(projectId);
+            }
+            parsed.add(record);
+        }
+        if (!misses.isEmpty()) {
+            projectIds.addAll(projectRepository.findExistingIds(misses));
+        }
+        List<ImportRecord> accepted = new ArrayList<>(parsed.size());
+        for (ImportRecord record : parsed) {
+            Long projectId = projectId(record);
+            if (projectId != null && !projectIds.contains(projectId)) {
+                job.reject(record.getLineNumber(), "Project not found: " + projectId);
+            } else {
+                accepted.add(record);
+            }
+        }
+        return accepted;
+    }
+
+    private void persist(String target, List<ImportRecord> records) {
+        if (FILES.equals(target)) {
+            List<File> files = new ArrayList<>(records.size());
+            for (ImportRecord record : records) {
+                File file = new File();
+                file.setFilename(record.get("filename"));
+                file.setPath(record.get("path"));
+                Long projectId = projectId(record);
+                file.setProject(projectId == null ? null : projectRepository.getReferenceById(projectId));
+                files.add(file);
+            }
+            fileRepository.saveAllAndFlush(files);
+        } else {
+            List<Owner> owners = new ArrayList<>(records.size());
+            for (ImportRecord record : records) {
+                Owner owner = new Owner();
+                owner.setName(record.get("name"));
+                owner.setEmail(record.get("email"));
+                owners.add(owner);
+            }
+            ownerRepository.saveAllAndFlush(owners);
+        }
+    }
+
+    private static Long projectId(ImportRecord record) {
+        String value = record.get("projectId");
+        return StringUtils.hasText(value) ? Long.valueOf(value.trim()) : null;
+    }
+
+    private long spool(InputStream body, Path spool) throws IOException {
+        long limit = properties.getMaxUploadSize().toBytes();
+        long size = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (OutputStream out = Files.newOutputStream(spool)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                size += read;
+                if (size > limit) {
+                    throw new ResponseStatusException(HttpStatus.CONTENT_TOO_LARGE,
+                            "Import uploads are limited to " + properties.getMaxUploadSize());
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return size;
+    }
+
+    // Finished jobs beyond retainedJobs are dropped oldest first; running jobs are always kept.
+    private void register(ImportJob job) {
+        jobs.put(job.getId(), job);
+        int excess = jobs.size() - properties.getRetainedJobs();
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(ImportJob::isFinished)
+                    .sorted(Comparator.comparing(ImportJob::getCreatedAt))
+                    .limit(excess)
+                    .toList()
+                    .forEach(finished -> jobs.remove(finished.getId()));
+        }
+    }
+
+    private static void delete(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException ex) {
+            log.warn("Could not delete import spool {}", spool, ex);
+        }
+    }
+
+    private ImportJobDto toDto(ImportJob job) {
+        List<ImportLineErrorDto> errors = job.getErrors();
+        ImportJobDto dto = new ImportJobDto();
+        dto.setId(job.getId());
+        dto.setTarget(job.getTarget());
+        dto.setFormat(job.getFormat().name().toLowerCase(Locale.ROOT));
+        dto.setStatus(job.getStatus().name());
+        dto.setMessage(job.getMessage());
+        dto.setBytesTotal(job.getBytesTotal());
+        dto.setBytesRead(job.getBytesRead());
+        dto.setLinesRead(job.getLinesRead());
+        dto.setImported(job.getImported());
+        dto.setFailed(job.getFailed());
+        dto.setErrors(errors);
+        dto.setErrorsTruncated(job.getFailed() > errors.size());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,60 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.dto.CursorSlice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+public final class KeysetCursor {
+
+    static final String SORT_KEY = "id";
+
+    private static final long START = 0L;
+
+    private KeysetCursor() {
+    }
+
+    public static long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0 || !SORT_KEY.equals(raw.substring(0, separator))) {
+                throw new IllegalArgumentException(raw);
+            }
+            return Long.parseLong(raw.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + token);
+        }
+    }
+
+    public static String encode(long lastId) {
+        String raw = SORT_KEY + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Pageable firstPage(int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be positive: " + size);
+        }
+        return PageRequest.of(0, size, Sort.by(SORT_KEY));
+    }
+
+    public static <T> CursorSlice<T> toCursorSlice(Slice<T> slice, Function<T, Long> idExtractor) {
+        String next = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            T last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            next = encode(idExtractor.apply(last));
+        }
+        return new CursorSlice<>(slice.getContent(), slice.getSize(), next);
+    }
+}
@@ -0,0 +1,103 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// List ETags come from the table_modification row of each table, so every instance sees the same
+// tag and a tag is only as new as the data read alongside it.
+@Component
+public class ModificationCounters {
+
+    private final JdbcTemplate jdbcTemplate;
+    // Resource key for the tables changed by the current transaction.
+    private final Object pendingKey = new Object();
+
+    public ModificationCounters(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    // Records that the current transaction changed the type's table; the counter is bumped as it commits.
+    public void markModified(Class<?> type) {
+        String table = tableName(type);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            pending().add(table);
+        } else {
+            increment(table);
+        }
+    }
+
+    // Runs after the last flush, still inside the committing transaction. Counter rows stay locked
+    // until the commit, so writers to the same table serialize from here on.
+    public void applyPending() {
+        @SuppressWarnings("unchecked")
+        Set<String> tables = (Set<String>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (tables == null || tables.isEmpty()) {
+            return;
+        }
+        // A fixed order keeps two writers from locking the rows in opposite orders.
+        new TreeSet<>(tables).forEach(this::increment);
+        tables.clear();
+    }
+
+    public String weakETag(Class<?> type) {
+        String table = tableName(type);
+        return jdbcTemplate.queryForObject(
+                "select created_at, modification_count from table_modification where table_name = ?",
+                (rs, rowNum) -> "W/\"" + table + "-" + Long.toString(rs.getTimestamp(1).getTime(), 36)
+                        + "-" + rs.getLong(2) + "\"",
+                table);
+    }
+
+    // Reads the tag and, unless the client already has it, the data in one snapshot, so a tag is
+    // never paired with older rows (including on a lagging replica).
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public <T> T readIfModified(Class<?> type, Predicate<String> notModified, Supplier<T> reader) {
+        return notModified.test(weakETag(type)) ? null : reader.get();
+    }
+
+    private void increment(String table) {
+        jdbcTemplate.update("update table_modification set modification_count = modification_count + 1 where table_name = ?", table);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pending() {
+        Set<String> tables = (Set<String>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (tables != null) {
+            return tables;
+        }
+        Set<String> marked = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(pendingKey, marked);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(pendingKey);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(pendingKey, marked);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+            }
+        });
+        return marked;
+    }
+
+    private static String tableName(Class<?> type) {
+        return type.getSimpleName().toLowerCase();
+    }
+}
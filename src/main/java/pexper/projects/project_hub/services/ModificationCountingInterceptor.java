@@ -0,0 +1,31 @@
+package pexper.projects.project_hub.services;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Hibernate calls this after the flush that precedes the commit, when every entity event of the
+// transaction has fired, so the counters are bumped once per table.
+@Component
+public class ModificationCountingInterceptor implements Interceptor, HibernatePropertiesCustomizer {
+
+    private final ModificationCounters modificationCounters;
+
+    public ModificationCountingInterceptor(ModificationCounters modificationCounters) {
+        this.modificationCounters = modificationCounters;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Override
+    public void beforeTransactionCompletion(Transaction tx) {
+        modificationCounters.applyPending();
+    }
+}
@@ -0,0 +1,24 @@
+package pexper.projects.project_hub.services;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ModificationCountingListener {
+
+    private final ModificationCounters modificationCounters;
+
+    public ModificationCountingListener(ModificationCounters modificationCounters) {
+        this.modificationCounters = modificationCounters;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        modificationCounters.markModified(Hibernate.getClass(entity));
+    }
+}
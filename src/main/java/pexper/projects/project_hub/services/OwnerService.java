@@ -3,20 +3,37 @@ package pexper.projects.project_hub.services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.OwnerDto;
+import pexper.projects.project_hub.dto.PageSlice;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface OwnerService {
-    List<Owner> findAll();
+    List<OwnerDto> findAll();
 
-    Page<Owner> findAll(Pageable pageable);
+    void streamAll(Consumer<OwnerDto> consumer);
 
-    Optional<Owner> findById(Long id);
+    Page<OwnerDto> findAll(Pageable pageable);
+
+    PageSlice<OwnerDto> findSlice(Pageable pageable);
+
+    CursorSlice<OwnerDto> findAfter(String after, int size);
+
+    Optional<OwnerDto> findById(Long id);
+
+    Optional<Owner> findWithProjectsById(Long id);
+
+    Optional<Owner> findWithAddressById(Long id);
 
     Owner save(Owner owner);
 
     Owner update(Long id, Owner owner);
 
+    List<BatchItemResult<OwnerDto>> saveAll(List<Owner> owners);
+
     void deleteById(Long id);
 }
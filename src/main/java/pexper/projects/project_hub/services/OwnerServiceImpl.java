@@ -2,40 +2,90 @@ package pexper.projects.project_hub.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.OwnerDto;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.repositories.OwnerRepository;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class OwnerServiceImpl implements OwnerService {
 
     private final OwnerRepository ownerRepository;
+    private final RowCountEstimates rowCountEstimates;
 
-    public OwnerServiceImpl(OwnerRepository ownerRepository) {
+    public OwnerServiceImpl(OwnerRepository ownerRepository, RowCountEstimates rowCountEstimates) {
         this.ownerRepository = ownerRepository;
+        this.rowCountEstimates = rowCountEstimates;
     }
 
     @Override
-    public List<Owner> findAll() {
-        List<Owner> owners = new ArrayList<>();
-        ownerRepository.findAll().forEach(owners::add);
-        return owners;
+    @Transactional(readOnly = true)
+    public List<OwnerDto> findAll() {
+        return ownerRepository.findAllProjectedBy();
     }
 
     @Override
-    public Page<Owner> findAll(Pageable pageable) {
-        return ownerRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<OwnerDto> consumer) {
+        try (Stream<OwnerDto> rows = ownerRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OwnerDto> findAll(Pageable pageable) {
+        return ownerRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageSlice<OwnerDto> findSlice(Pageable pageable) {
+        Slice<OwnerDto> slice = ownerRepository.findSliceProjectedBy(pageable);
+        return new PageSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), rowCountEstimates.estimate(Owner.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<OwnerDto> findAfter(String after, int size) {
+        long afterId = KeysetCursor.decode(after);
+        return KeysetCursor.toCursorSlice(ownerRepository.findProjectedByIdGreaterThan(afterId, KeysetCursor.firstPage(size)), OwnerDto::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OwnerDto> findById(Long id) {
+        return ownerRepository.findProjectedById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Owner> findWithProjectsById(Long id) {
+        return ownerRepository.findWithProjectsById(id);
     }
 
     @Override
-    public Optional<Owner> findById(Long id) {
-        return ownerRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<Owner> findWithAddressById(Long id) {
+        return ownerRepository.findWithAddressById(id);
     }
 
     @Override
@@ -48,9 +98,44 @@ public class OwnerServiceImpl implements OwnerService {
         Owner existing = ownerRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owner not found: " + id));
         owner.setId(existing.getId());
+        owner.setVersion(existing.getVersion());
         return ownerRepository.save(owner);
     }
 
+    @Override
+    @Transactional
+    public List<BatchItemResult<OwnerDto>> saveAll(List<Owner> owners) {
+        Batches.requireWithinLimit(owners);
+        Set<Long> ownerIds = Batches.idsOf(owners, Owner::getId);
+        Map<Long, Owner> existingOwners = ownerIds.isEmpty() ? Map.of() : ownerRepository.findAllById(ownerIds).stream()
+                .collect(Collectors.toMap(Owner::getId, Function.identity()));
+
+        List<BatchItemResult<OwnerDto>> results = new ArrayList<>(owners.size());
+        Map<Integer, Owner> accepted = new LinkedHashMap<>();
+        for (int index = 0; index < owners.size(); index++) {
+            Owner owner = owners.get(index);
+            if (owner == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, "Item must not be null"));
+                continue;
+            }
+            Owner target = owner.getId() == null ? new Owner() : existingOwners.get(owner.getId());
+            if (target == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "Owner not found: " + owner.getId()));
+                continue;
+            }
+            target.setName(owner.getName());
+            target.setEmail(owner.getEmail());
+            accepted.put(index, target);
+            results.add(null);
+        }
+
+        ownerRepository.saveAll(accepted.values());
+        accepted.forEach((index, owner) -> results.set(index, BatchItemResult.success(index,
+                owners.get(index).getId() == null ? HttpStatus.CREATED : HttpStatus.OK,
+                new OwnerDto(owner.getId(), owner.getName(), owner.getEmail(), owner.getVersion()))));
+        return results;
+    }
+
     @Override
     public void deleteById(Long id) {
         if (!ownerRepository.existsById(id)) {
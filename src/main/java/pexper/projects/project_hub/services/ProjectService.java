@@ -3,20 +3,39 @@ package pexper.projects.project_hub.services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.ProjectDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ProjectService {
-    List<Project> findAll();
+    List<ProjectDto> findAll();
 
-    Page<Project> findAll(Pageable pageable);
+    void streamAll(Consumer<ProjectDto> consumer);
 
-    Optional<Project> findById(Long id);
+    Page<ProjectDto> findAll(Pageable pageable);
+
+    PageSlice<ProjectDto> findSlice(Pageable pageable);
+
+    CursorSlice<ProjectDto> findAfter(String after, int size);
+
+    Optional<ProjectDto> findById(Long id);
+
+    Optional<Project> findWithOwnersById(Long id);
+
+    Optional<Project> findWithFilesById(Long id);
+
+    Optional<Project> findWithAddressById(Long id);
 
     Project save(Project project);
 
     Project update(Long id, Project project);
 
+    List<BatchItemResult<ProjectDto>> saveAll(List<Project> projects);
+
     void deleteById(Long id);
 }
@@ -2,13 +2,19 @@ package pexper.projects.project_hub.services;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.Address;
 import pexper.projects.project_hub.domain.File;
 import pexper.projects.project_hub.domain.Owner;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.ProjectDto;
 import pexper.projects.project_hub.repositories.AddressRepository;
 import pexper.projects.project_hub.repositories.FileRepository;
 import pexper.projects.project_hub.repositories.OwnerRepository;
@@ -16,9 +22,16 @@ import pexper.projects.project_hub.repositories.ProjectRepository;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
@@ -27,53 +40,100 @@ public class ProjectServiceImpl implements ProjectService {
     private final OwnerRepository ownerRepository;
     private final AddressRepository addressRepository;
     private final FileRepository fileRepository;
+    private final SecondLevelCacheEvictor cacheEvictor;
+    private final RowCountEstimates rowCountEstimates;
+    private final ModificationCounters modificationCounters;
 
-    public ProjectServiceImpl(ProjectRepository projectRepository, OwnerRepository ownerRepository, AddressRepository addressRepository, FileRepository fileRepository) {
+    public ProjectServiceImpl(ProjectRepository projectRepository, OwnerRepository ownerRepository, AddressRepository addressRepository, FileRepository fileRepository, SecondLevelCacheEvictor cacheEvictor, RowCountEstimates rowCountEstimates, ModificationCounters modificationCounters) {
         this.projectRepository = projectRepository;
         this.ownerRepository = ownerRepository;
         this.addressRepository = addressRepository;
         this.fileRepository = fileRepository;
+        this.cacheEvictor = cacheEvictor;
+        this.rowCountEstimates = rowCountEstimates;
+        this.modificationCounters = modificationCounters;
     }
 
     @Override
-    public List<Project> findAll() {
-        List<Project> projects = new ArrayList<>();
-        projectRepository.findAll().forEach(projects::add);
-        return projects;
+    @Transactional(readOnly = true)
+    public List<ProjectDto> findAll() {
+        return projectRepository.findAllProjectedBy();
     }
 
     @Override
-    public Page<Project> findAll(Pageable pageable) {
-        return projectRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ProjectDto> consumer) {
+        try (Stream<ProjectDto> rows = projectRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectDto> findAll(Pageable pageable) {
+        return projectRepository.findAllProjectedBy(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageSlice<ProjectDto> findSlice(Pageable pageable) {
+        Slice<ProjectDto> slice = projectRepository.findSliceProjectedBy(pageable);
+        return new PageSlice<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), rowCountEstimates.estimate(Project.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ProjectDto> findAfter(String after, int size) {
+        long afterId = KeysetCursor.decode(after);
+        return KeysetCursor.toCursorSlice(projectRepository.findProjectedByIdGreaterThan(afterId, KeysetCursor.firstPage(size)), ProjectDto::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProjectDto> findById(Long id) {
+        return projectRepository.findProjectedById(id);
     }
 
     @Override
-    public Optional<Project> findById(Long id) {
-        return projectRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<Project> findWithOwnersById(Long id) {
+        return projectRepository.findWithOwnersById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Project> findWithFilesById(Long id) {
+        return projectRepository.findWithFilesById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Project> findWithAddressById(Long id) {
+        return projectRepository.findWithAddressById(id);
+    }
+
+    @Override
+    @Transactional
     public Project save(Project project) {
+        if (project.getOwners() != null && !project.getOwners().isEmpty()) {
+            cacheEvictor.evictOwnerProjects();
+        }
         return projectRepository.save(project);
     }
 
     @Override
+    @Transactional
     public Project update(Long id, Project project) {
         Project existing = projectRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id));
         existing.setProjectName(project.getProjectName());
 
         if (project.getOwners() != null) {
-            Set<Owner> owners = new HashSet<>();
-            for (Owner owner : project.getOwners()) {
-                if (owner.getId() == null) {
-                    continue;
-                }
-                Owner loadedOwner = ownerRepository.findById(owner.getId())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owner not found: " + owner.getId()));
-                owners.add(loadedOwner);
-            }
-            existing.setOwners(owners);
+            Set<Long> ownerIds = idsOf(project.getOwners(), Owner::getId);
+            List<Owner> owners = ownerIds.isEmpty() ? List.of() : ownerRepository.findAllById(ownerIds);
+            requireAllFound("Owner", ownerIds, owners, Owner::getId);
+            existing.setOwners(new HashSet<>(owners));
+            cacheEvictor.evictOwnerProjects();
         }
 
         if (project.getAddress() != null) {
@@ -90,30 +150,95 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         if (project.getFiles() != null) {
-            Set<Long> selectedIds = new HashSet<>();
-            Set<File> files = new HashSet<>();
-            for (File file : project.getFiles()) {
-                if (file.getId() == null) {
-                    continue;
-                }
-                File loadedFile = fileRepository.findById(file.getId())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found: " + file.getId()));
-                loadedFile.setProject(existing);
-                fileRepository.save(loadedFile);
-                files.add(loadedFile);
-                selectedIds.add(loadedFile.getId());
+            Set<Long> fileIds = idsOf(project.getFiles(), File::getId);
+            List<File> files = fileIds.isEmpty() ? List.of() : fileRepository.findAllById(fileIds);
+            requireAllFound("File", fileIds, files, File::getId);
+
+            if (fileIds.isEmpty()) {
+                fileRepository.detachAllFromProject(existing);
+            } else {
+                fileRepository.detachFromProjectExcept(existing, fileIds);
+                fileRepository.assignToProject(existing, fileIds);
             }
+            // Bulk updates skip entity listeners, so the file table is marked explicitly.
+            modificationCounters.markModified(File.class);
+            existing.setFiles(new HashSet<>(files));
+        }
+
+        return projectRepository.save(existing);
+    }
 
-            for (File file : existing.getFiles()) {
-                if (file.getId() != null && !selectedIds.contains(file.getId())) {
-                    file.setProject(null);
-                    fileRepository.save(file);
+    @Override
+    @Transactional
+    public List<BatchItemResult<ProjectDto>> saveAll(List<Project> projects) {
+        Batches.requireWithinLimit(projects);
+        Set<Long> ownerIds = new LinkedHashSet<>();
+        Set<Long> addressIds = new LinkedHashSet<>();
+        for (Project project : projects) {
+            if (project != null && project.getOwners() != null) {
+                ownerIds.addAll(idsOf(project.getOwners(), Owner::getId));
+            }
+            if (project != null && project.getAddress() != null && project.getAddress().getId() != null) {
+                addressIds.add(project.getAddress().getId());
+            }
+        }
+        Set<Long> knownOwnerIds = ownerIds.isEmpty() ? Set.of() : ownerRepository.findExistingIds(ownerIds);
+        Set<Long> knownAddressIds = addressIds.isEmpty() ? Set.of() : addressRepository.findExistingIds(addressIds);
+        Set<Long> projectIds = Batches.idsOf(projects, Project::getId);
+        Map<Long, Project> existingProjects = projectIds.isEmpty() ? Map.of() : projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<BatchItemResult<ProjectDto>> results = new ArrayList<>(projects.size());
+        Map<Integer, Project> accepted = new LinkedHashMap<>();
+        boolean ownersChanged = false;
+        for (int index = 0; index < projects.size(); index++) {
+            Project project = projects.get(index);
+            if (project == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, "Item must not be null"));
+                continue;
+            }
+            Project target = project.getId() == null ? new Project() : existingProjects.get(project.getId());
+            if (target == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "Project not found: " + project.getId()));
+                continue;
+            }
+            Set<Long> itemOwnerIds = project.getOwners() == null ? null : idsOf(project.getOwners(), Owner::getId);
+            Long missingOwnerId = itemOwnerIds == null ? null : itemOwnerIds.stream()
+                    .filter(ownerId -> !knownOwnerIds.contains(ownerId))
+                    .findFirst()
+                    .orElse(null);
+            if (missingOwnerId != null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "Owner not found: " + missingOwnerId));
+                continue;
+            }
+            Long addressId = project.getAddress() == null ? null : project.getAddress().getId();
+            if (addressId != null && !knownAddressIds.contains(addressId)) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, "Address not found: " + addressId));
+                continue;
+            }
+
+            target.setProjectName(project.getProjectName());
+            if (itemOwnerIds != null) {
+                Set<Owner> owners = new HashSet<>();
+                for (Long ownerId : itemOwnerIds) {
+                    owners.add(ownerRepository.getReferenceById(ownerId));
                 }
+                target.setOwners(owners);
+                ownersChanged = true;
             }
-            existing.setFiles(files);
+            target.setAddress(addressId == null ? null : addressRepository.getReferenceById(addressId));
+            accepted.put(index, target);
+            results.add(null);
         }
 
-        return projectRepository.save(existing);
+        projectRepository.saveAll(accepted.values());
+        if (ownersChanged) {
+            cacheEvictor.evictOwnerProjects();
+        }
+        accepted.forEach((index, project) -> results.set(index, BatchItemResult.success(index,
+                projects.get(index).getId() == null ? HttpStatus.CREATED : HttpStatus.OK,
+                new ProjectDto(project.getId(), project.getProjectName(), project.getVersion()))));
+        return results;
     }
 
     @Override
@@ -122,5 +247,29 @@ public class ProjectServiceImpl implements ProjectService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found: " + id);
         }
         projectRepository.deleteById(id);
+        cacheEvictor.evictOwnerProjects();
+    }
+
+    private static <T> Set<Long> idsOf(Set<T> references, Function<T, Long> idExtractor) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (T reference : references) {
+            Long referenceId = idExtractor.apply(reference);
+            if (referenceId != null) {
+                ids.add(referenceId);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> void requireAllFound(String type, Set<Long> ids, List<T> found, Function<T, Long> idExtractor) {
+        if (found.size() == ids.size()) {
+            return;
+        }
+        Set<Long> foundIds = found.stream().map(idExtractor).collect(Collectors.toSet());
+        for (Long requestedId : ids) {
+            if (!foundIds.contains(requestedId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, type + " not found: " + requestedId);
+            }
+        }
     }
 }
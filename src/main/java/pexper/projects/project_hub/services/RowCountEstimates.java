@@ -0,0 +1,80 @@
+package pexper.projects.project_hub.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Row counts for list responses. They come from the table statistics the database already keeps,
+// refreshed in the background, so neither a page request nor the refresh ever runs count(*).
+// Databases without such statistics (SQLite) report no estimate.
+@Component
+public class RowCountEstimates {
+
+    private static final Logger log = LoggerFactory.getLogger(RowCountEstimates.class);
+
+    private static final Map<String, Class<?>> TABLES = Map.of(
+            "project", Project.class,
+            "owner", Owner.class,
+            "address", Address.class,
+            "file", File.class);
+
+    private static final String MYSQL_QUERY = "select table_name, table_rows from information_schema.tables "
+            + "where table_schema = database() and table_name in ('project', 'owner', 'address', 'file')";
+    private static final String H2_QUERY = "select table_name, row_count_estimate from information_schema.tables "
+            + "where table_schema = schema() and lower(table_name) in ('project', 'owner', 'address', 'file')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Class<?>, Long> estimates = new ConcurrentHashMap<>();
+    private volatile String query;
+
+    public RowCountEstimates(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Long estimate(Class<?> entityType) {
+        return estimates.get(entityType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.listing.count-refresh-interval:60s}", fixedDelayString = "${app.listing.count-refresh-interval:60s}")
+    public void refresh() {
+        if (query == null) {
+            query = statisticsQuery();
+        }
+        if (query.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(query, rs -> {
+            Class<?> entityType = TABLES.get(rs.getString(1).toLowerCase(Locale.ROOT));
+            if (entityType != null) {
+                estimates.put(entityType, rs.getLong(2));
+            }
+        });
+    }
+
+    private String statisticsQuery() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return switch (product == null ? "" : product) {
+            case "MySQL", "MariaDB" -> MYSQL_QUERY;
+            case "H2" -> H2_QUERY;
+            default -> {
+                log.info("No table statistics for {}; list responses carry no row estimate", product);
+                yield "";
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.data.domain.Pageable;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.SearchHitDto;
+
+public interface SearchService {
+    PageSlice<SearchHitDto> search(String query, String type, Pageable pageable);
+}
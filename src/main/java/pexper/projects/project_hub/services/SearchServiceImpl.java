@@ -0,0 +1,46 @@
+package pexper.projects.project_hub.services;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.config.SearchProperties;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.SearchHitDto;
+import pexper.projects.project_hub.search.SearchDocument;
+import pexper.projects.project_hub.search.SearchIndex;
+
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Set<String> TYPES =
+            Set.of(SearchDocument.PROJECT, SearchDocument.OWNER, SearchDocument.FILE, SearchDocument.ADDRESS);
+
+    private final SearchIndex searchIndex;
+    private final SearchProperties searchProperties;
+
+    public SearchServiceImpl(SearchIndex searchIndex, SearchProperties searchProperties) {
+        this.searchIndex = searchIndex;
+        this.searchProperties = searchProperties;
+    }
+
+    @Override
+    public PageSlice<SearchHitDto> search(String query, String type, Pageable pageable) {
+        if (type != null && !TYPES.contains(type)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown search type: " + type);
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > searchProperties.getMaxResultWindow()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Search results are limited to the first " + searchProperties.getMaxResultWindow() + " hits");
+        }
+        SearchIndex.SearchResult result = searchIndex.search(query, type, (int) pageable.getOffset(), pageable.getPageSize());
+        List<SearchHitDto> hits = result.getHits().stream()
+                .map(hit -> new SearchHitDto(hit.getDocument().getType(), hit.getDocument().getId(),
+                        hit.getDocument().getTitle(), hit.getDocument().getDetail(), hit.getScore()))
+                .toList();
+        return new PageSlice<>(hits, pageable.getPageNumber(), pageable.getPageSize(), result.isHasNext(), result.getTotalHits());
+    }
+}
@@ -0,0 +1,28 @@
+package pexper.projects.project_hub.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import pexper.projects.project_hub.domain.Owner;
+
+@Component
+public class SecondLevelCacheEvictor {
+
+    static final String OWNER_PROJECTS_ROLE = Owner.class.getName() + ".projects";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // Owner.projects is the inverse side of Project.owners, so Hibernate does not invalidate it
+    // when project membership changes. Evict once the change is visible to other transactions.
+    public void evictOwnerProjects() {
+        AfterCommit.run(this::evictOwnerProjectsNow);
+    }
+
+    private void evictOwnerProjectsNow() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData(OWNER_PROJECTS_ROLE);
+    }
+}
@@ -0,0 +1,72 @@
+-- Baseline schema for the in-memory "h2" profile. Keep in step with db/migration/mysql, whose
+-- V1 must stay the pre-Flyway schema.
+create sequence address_seq start with 1 increment by 50;
+create sequence app_user_seq start with 1 increment by 50;
+create sequence file_seq start with 1 increment by 50;
+create sequence owner_seq start with 1 increment by 50;
+create sequence project_seq start with 1 increment by 50;
+
+create table address (
+    id bigint not null,
+    owner_id bigint,
+    project_id bigint,
+    city varchar(255),
+    number varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+
+create table app_user (
+    id bigint not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    role enum ('ADMIN','USER') not null,
+    primary key (id)
+);
+
+create table file (
+    id bigint not null,
+    project_id bigint,
+    filename varchar(255),
+    path varchar(255),
+    primary key (id)
+);
+
+create table owner (
+    address_id bigint,
+    id bigint not null,
+    email varchar(255),
+    name varchar(255),
+    primary key (id)
+);
+
+create table owner_project (
+    owner_id bigint not null,
+    project_id bigint not null,
+    primary key (owner_id, project_id)
+);
+
+create table project (
+    address_id bigint,
+    id bigint not null,
+    project_name varchar(255),
+    primary key (id)
+);
+
+-- Paging (offset and keyset) sorts by id, which every primary key already covers.
+-- The one-to-one sides are unique; their constraints double as the lookup indexes.
+alter table address add constraint uk_address_owner_id unique (owner_id);
+alter table address add constraint uk_address_project_id unique (project_id);
+alter table app_user add constraint uk_app_user_username unique (username);
+alter table owner add constraint uk_owner_address_id unique (address_id);
+alter table project add constraint uk_project_address_id unique (address_id);
+
+alter table address add constraint fk_address_owner foreign key (owner_id) references owner;
+alter table address add constraint fk_address_project foreign key (project_id) references project;
+alter table file add constraint fk_file_project foreign key (project_id) references project;
+alter table owner add constraint fk_owner_address foreign key (address_id) references address;
+alter table owner_project add constraint fk_owner_project_owner foreign key (owner_id) references owner;
+alter table owner_project add constraint fk_owner_project_project foreign key (project_id) references project;
+alter table project add constraint fk_project_address foreign key (address_id) references address;
@@ -0,0 +1,15 @@
+-- Modification counters behind the list ETags. Keep in step with db/migration/mysql.
+-- A writing transaction bumps the row of each table it changed just before it commits;
+-- created_at keeps tags from a recreated database distinct from earlier ones.
+create table table_modification (
+    table_name varchar(64) not null,
+    modification_count bigint not null,
+    created_at timestamp(6) default current_timestamp(6) not null,
+    primary key (table_name)
+);
+
+insert into table_modification (table_name, modification_count) values
+    ('address', 0),
+    ('file', 0),
+    ('owner', 0),
+    ('project', 0);
@@ -0,0 +1,78 @@
+-- Baseline schema for the MySQL "persist" profile: the tables ddl-auto: update created before
+-- Flyway, which pre-Flyway databases are baselined at. Change the schema in later migrations only.
+-- Keep in step with db/migration/h2.
+create table address_seq (next_val bigint) engine=InnoDB;
+insert into address_seq values (1);
+create table app_user_seq (next_val bigint) engine=InnoDB;
+insert into app_user_seq values (1);
+create table file_seq (next_val bigint) engine=InnoDB;
+insert into file_seq values (1);
+create table owner_seq (next_val bigint) engine=InnoDB;
+insert into owner_seq values (1);
+create table project_seq (next_val bigint) engine=InnoDB;
+insert into project_seq values (1);
+
+create table address (
+    id bigint not null,
+    owner_id bigint,
+    project_id bigint,
+    city varchar(255),
+    number varchar(255),
+    state varchar(255),
+    street varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table app_user (
+    id bigint not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    role enum ('ADMIN','USER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table file (
+    id bigint not null,
+    project_id bigint,
+    filename varchar(255),
+    path varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table owner (
+    address_id bigint,
+    id bigint not null,
+    email varchar(255),
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table owner_project (
+    owner_id bigint not null,
+    project_id bigint not null,
+    primary key (owner_id, project_id)
+) engine=InnoDB;
+
+create table project (
+    address_id bigint,
+    id bigint not null,
+    project_name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+-- Paging (offset and keyset) sorts by id, which every primary key already covers.
+-- The one-to-one sides are unique; their constraints double as the lookup indexes.
+alter table address add constraint uk_address_owner_id unique (owner_id);
+alter table address add constraint uk_address_project_id unique (project_id);
+alter table app_user add constraint uk_app_user_username unique (username);
+alter table owner add constraint uk_owner_address_id unique (address_id);
+alter table project add constraint uk_project_address_id unique (address_id);
+
+alter table address add constraint fk_address_owner foreign key (owner_id) references owner (id);
+alter table address add constraint fk_address_project foreign key (project_id) references project (id);
+alter table file add constraint fk_file_project foreign key (project_id) references project (id);
+alter table owner add constraint fk_owner_address foreign key (address_id) references address (id);
+alter table owner_project add constraint fk_owner_project_owner foreign key (owner_id) references owner (id);
+alter table owner_project add constraint fk_owner_project_project foreign key (project_id) references project (id);
+alter table project add constraint fk_project_address foreign key (address_id) references address (id);
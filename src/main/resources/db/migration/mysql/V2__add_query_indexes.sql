@@ -0,0 +1,7 @@
+-- Indexes for the queries the service runs; see the README. Keep in step with db/migration/h2.
+-- InnoDB drops the index it created implicitly for a foreign key once one of these can serve it.
+-- Project files are loaded and bulk-updated by project.
+create index idx_file_project_id on file (project_id);
+create index idx_file_path on file (path);
+-- The primary key leads with owner_id; this serves Project.owners.
+create index idx_owner_project_project_id on owner_project (project_id);
@@ -0,0 +1,6 @@
+-- Optimistic-locking versions behind the record ETags. Keep in step with db/migration/h2.
+-- Existing rows start at 0.
+alter table address add column version bigint default 0;
+alter table file add column version bigint default 0;
+alter table owner add column version bigint default 0;
+alter table project add column version bigint default 0;
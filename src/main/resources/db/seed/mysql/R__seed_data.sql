@@ -0,0 +1,56 @@
+-- Demo data for local MySQL runs. Only on Flyway's path with the "seed" profile, and only applied
+-- to a database that holds no projects, owners, addresses or files yet.
+SET @seed = NOT EXISTS (SELECT 1 FROM `project`)
+    AND NOT EXISTS (SELECT 1 FROM `owner`)
+    AND NOT EXISTS (SELECT 1 FROM `address`)
+    AND NOT EXISTS (SELECT 1 FROM `file`);
+
+INSERT INTO `address` (`id`, `street`, `city`, `state`, `number`, `zip_code`)
+SELECT * FROM (
+  SELECT 1, 'Owner Street 1', 'Sao Paulo', 'SP', '101', '01001-000' UNION ALL
+  SELECT 2, 'Owner Street 2', 'Sao Paulo', 'SP', '102', '01002-000' UNION ALL
+  SELECT 3, 'Owner Street 3', 'Sao Paulo', 'SP', '103', '01003-000' UNION ALL
+  SELECT 4, 'Project Avenue 1', 'Campinas', 'SP', '501', '13011-100' UNION ALL
+  SELECT 5, 'Project Avenue 2', 'Campinas', 'SP', '502', '13012-100' UNION ALL
+  SELECT 6, 'Project Avenue 3', 'Campinas', 'SP', '503', '13013-100'
+) AS seed WHERE @seed;
+
+INSERT INTO `project` (`id`, `project_name`, `address_id`)
+SELECT * FROM (
+  SELECT 1, 'Atlas Migration', 4 UNION ALL
+  SELECT 2, 'Nimbus Analytics', 5 UNION ALL
+  SELECT 3, 'Orion Console', 6
+) AS seed WHERE @seed;
+
+INSERT INTO `owner` (`id`, `name`, `email`, `address_id`)
+SELECT * FROM (
+  SELECT 1, 'Ana Souza', 'ana.souza@example.com', 1 UNION ALL
+  SELECT 2, 'Bruno Lima', 'bruno.lima@example.com', 2 UNION ALL
+  SELECT 3, 'Carla Mendes', 'carla.mendes@example.com', 3
+) AS seed WHERE @seed;
+
+UPDATE `address` SET `owner_id` = `id` WHERE `id` IN (1, 2, 3) AND @seed;
+UPDATE `address` SET `project_id` = `id` - 3 WHERE `id` IN (4, 5, 6) AND @seed;
+
+INSERT INTO `owner_project` (`owner_id`, `project_id`)
+SELECT * FROM (
+  SELECT 1, 1 UNION ALL
+  SELECT 1, 2 UNION ALL
+  SELECT 2, 2 UNION ALL
+  SELECT 2, 3 UNION ALL
+  SELECT 3, 1
+) AS seed WHERE @seed;
+
+INSERT INTO `file` (`id`, `filename`, `path`, `project_id`)
+SELECT * FROM (
+  SELECT 1, 'file-001.txt', '/projects/atlas-migration/docs/file-001.txt', 1 UNION ALL
+  SELECT 2, 'file-002.txt', '/projects/atlas-migration/docs/file-002.txt', 1 UNION ALL
+  SELECT 3, 'file-003.txt', '/projects/nimbus-analytics/docs/file-003.txt', 2 UNION ALL
+  SELECT 4, 'file-004.txt', '/projects/orion-console/docs/file-004.txt', 3
+) AS seed WHERE @seed;
+
+-- The rows above use explicit ids; move the pooled sequences past them.
+UPDATE `address_seq` SET `next_val` = GREATEST(`next_val`, 101) WHERE @seed;
+UPDATE `file_seq` SET `next_val` = GREATEST(`next_val`, 101) WHERE @seed;
+UPDATE `owner_seq` SET `next_val` = GREATEST(`next_val`, 101) WHERE @seed;
+UPDATE `project_seq` SET `next_val` = GREATEST(`next_val`, 101) WHERE @seed;
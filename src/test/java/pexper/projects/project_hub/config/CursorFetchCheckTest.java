@@ -0,0 +1,24 @@
+package pexper.projects.project_hub.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorFetchCheckTest {
+
+    private static final String MYSQL = "jdbc:mysql://db:3306/project_hub?useSSL=false";
+
+    @Test
+    void mysqlNeedsCursorFetchInTheUrlOrTheDriverProperties() {
+        Properties enabled = new Properties();
+        enabled.setProperty(CursorFetchCheck.USE_CURSOR_FETCH, "true");
+
+        assertThat(CursorFetchCheck.lacksCursorFetch(MYSQL, new Properties())).isTrue();
+        assertThat(CursorFetchCheck.lacksCursorFetch(MYSQL + "&useCursorFetch=true", new Properties())).isFalse();
+        assertThat(CursorFetchCheck.lacksCursorFetch(MYSQL, enabled)).isFalse();
+        assertThat(CursorFetchCheck.lacksCursorFetch(MYSQL + "&useCursorFetch=false", enabled)).isTrue();
+        assertThat(CursorFetchCheck.lacksCursorFetch("jdbc:h2:mem:projecthubdb", new Properties())).isFalse();
+    }
+}
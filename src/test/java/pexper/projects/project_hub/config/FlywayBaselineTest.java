@@ -0,0 +1,104 @@
+package pexper.projects.project_hub.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.ProjectDto;
+import pexper.projects.project_hub.services.ProjectService;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A MySQL database created by the old ddl-auto: update setup, replayed on H2 in MySQL mode. The
+// persist profile's Flyway settings must baseline it at V1, apply the later migrations and leave a
+// schema that passes ddl-auto: validate.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + FlywayBaselineTest.URL,
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.locations=classpath:db/migration/mysql"
+})
+@ActiveProfiles("persist")
+class FlywayBaselineTest {
+
+    static final String URL = "jdbc:h2:mem:projecthub-pre-flyway;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    // What ddl-auto: update created from the entities before the series, plus one row of data.
+    private static final String PRE_FLYWAY_SCHEMA = """
+            create table address (id bigint not null, owner_id bigint, project_id bigint, city varchar(255), number varchar(255), state varchar(255), street varchar(255), zip_code varchar(255), primary key (id)) engine=InnoDB;
+            create table address_seq (next_val bigint) engine=InnoDB;
+            insert into address_seq values ( 1 );
+            create table app_user (id bigint not null, password varchar(255) not null, role enum ('ADMIN','USER') not null, username varchar(255) not null, primary key (id)) engine=InnoDB;
+            create table app_user_seq (next_val bigint) engine=InnoDB;
+            insert into app_user_seq values ( 1 );
+            create table file (id bigint not null, project_id bigint, filename varchar(255), path varchar(255), primary key (id)) engine=InnoDB;
+            create table file_seq (next_val bigint) engine=InnoDB;
+            insert into file_seq values ( 1 );
+            create table owner (address_id bigint, id bigint not null, email varchar(255), name varchar(255), primary key (id)) engine=InnoDB;
+            create table owner_project (owner_id bigint not null, project_id bigint not null, primary key (owner_id, project_id)) engine=InnoDB;
+            create table owner_seq (next_val bigint) engine=InnoDB;
+            insert into owner_seq values ( 1 );
+            create table project (address_id bigint, id bigint not null, project_name varchar(255), primary key (id)) engine=InnoDB;
+            create table project_seq (next_val bigint) engine=InnoDB;
+            insert into project_seq values ( 51 );
+            alter table address add constraint UKfbb3vhm4eyhl0fy1ae0f0ugbr unique (owner_id);
+            alter table address add constraint UK5p3iyoljmk5f7w4fn3ekq1hc5 unique (project_id);
+            alter table app_user add constraint UK3k4cplvh82srueuttfkwnylq0 unique (username);
+            alter table owner add constraint UK6p6hwuhd2b5yq8g7ixq0c1cxm unique (address_id);
+            alter table project add constraint UKq2h4v3nlqtnqcs9pg1i4nlb3o unique (address_id);
+            alter table address add constraint FK9r5o7bmkq7l1d2cr0o3bwg3dc foreign key (owner_id) references owner (id);
+            alter table address add constraint FKqmhsh8rp52nb4e3fr7ngh7q9e foreign key (project_id) references project (id);
+            alter table file add constraint FKnrunwlaelb2r58y3lojixtk8o foreign key (project_id) references project (id);
+            alter table owner add constraint FK6ab56rbgybvdlqde2m3kh0ijw foreign key (address_id) references address (id);
+            alter table owner_project add constraint FKmxo1quxpu5lq9pbtwt5q0o06l foreign key (owner_id) references owner (id);
+            alter table owner_project add constraint FKl06v0bq1yvdvwm0evewdh0v9y foreign key (project_id) references project (id);
+            alter table project add constraint FKnb7xn1o1nnm1ww9wn9ux2n5a8 foreign key (address_id) references address (id);
+            insert into project (id, project_name) values (1, 'Legacy Project');
+            """;
+
+    static {
+        try (Connection connection = new DriverManagerDataSource(URL, "sa", "").getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ByteArrayResource(PRE_FLYWAY_SCHEMA.getBytes(StandardCharsets.UTF_8)));
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void preFlywaySchemaIsBaselinedAndMigrated() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertThat(jdbcTemplate.queryForList(
+                "select version from flyway_schema_history where version is not null order by installed_rank", String.class))
+                .containsExactly("1", "2", "3", "4");
+        assertThat(jdbcTemplate.queryForObject(
+                "select type from flyway_schema_history where version = '1'", String.class))
+                .isEqualTo("BASELINE");
+
+        ProjectDto legacy = projectService.findById(1L).orElseThrow();
+        assertThat(legacy.getProjectName()).isEqualTo("Legacy Project");
+        assertThat(legacy.getVersion()).isZero();
+
+        Project renamed = new Project();
+        renamed.setProjectName("Legacy Project (migrated)");
+        projectService.update(1L, renamed);
+        assertThat(projectService.findById(1L).orElseThrow().getVersion()).isPositive();
+    }
+}
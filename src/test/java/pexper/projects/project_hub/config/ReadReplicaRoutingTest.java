@@ -0,0 +1,199 @@
+package pexper.projects.project_hub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.ProjectDto;
+import pexper.projects.project_hub.services.FileService;
+import pexper.projects.project_hub.services.ProjectService;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases stand in for primary and replica. Nothing replicates between them,
+// so a row's presence shows which one a read went to.
+@SpringBootTest(properties = {
+        "app.read-replica.enabled=true",
+        "app.read-replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.read-replica.username=sa",
+        "app.read-replica.password=",
+        "app.read-replica.read-your-writes-window=1m",
+        "app.read-replica.data-source-properties.useCursorFetch=true"
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:projecthub-replica;DB_CLOSE_DELAY=-1";
+    private static final long REPLICA_ONLY_ID = 900001L;
+    private static final long LAGGING_PROJECT_ID = 900002L;
+    private static final DataSource REPLICA = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+
+    // Startup already runs read-only queries, so the replica needs its schema before the context loads.
+    static {
+        resetReplica();
+    }
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replica")
+    private DataSource replicaPool;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        resetReplica();
+        replica = new JdbcTemplate(REPLICA);
+        replica.update("insert into file (id, filename, path, version) values (?, ?, ?, 0)",
+                REPLICA_ONLY_ID, "replica-only.txt", "/replica/replica-only.txt");
+        primary = new JdbcTemplate(dataSource.unwrap(ReplicaRoutingDataSource.class).getPrimary());
+    }
+
+    @AfterEach
+    void clearUser() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replicaPoolIsItsOwnBeanBehindTheRoutedDataSource() throws SQLException {
+        assertThat(dataSource.unwrap(ReplicaRoutingDataSource.class).getReplica()).isSameAs(replicaPool);
+        assertThat(((HikariDataSource) replicaPool).getPoolName()).isEqualTo("replica");
+        assertThat(((HikariDataSource) replicaPool).isReadOnly()).isTrue();
+        assertThat(((HikariDataSource) replicaPool).getDataSourceProperties()).containsEntry("useCursorFetch", "true");
+    }
+
+    @Test
+    void readOnlyServiceMethodsReadFromTheReplica() {
+        assertThat(fileService.findById(REPLICA_ONLY_ID)).isPresent();
+        assertThat(fileService.findAll()).extracting(FileRecordDto::getId).containsExactly(REPLICA_ONLY_ID);
+        assertThat(countFiles(primary, REPLICA_ONLY_ID)).isZero();
+    }
+
+    @Test
+    void writesGoToThePrimary() {
+        FileRecordDto saved = fileService.save(new FileRecordDto(null, "primary.txt", "/primary/primary.txt", null));
+
+        assertThat(countFiles(primary, saved.getId())).isEqualTo(1);
+        assertThat(countFiles(replica, saved.getId())).isZero();
+        assertThat(fileService.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    void writerReadsItsOwnWriteFromThePrimaryWithinTheWindow() {
+        authenticate("alice");
+        FileRecordDto saved = fileService.save(new FileRecordDto(null, "mine.txt", "/alice/mine.txt", null));
+
+        assertThat(fileService.findById(saved.getId())).isPresent();
+
+        authenticate("bob");
+        assertThat(fileService.findById(saved.getId())).isEmpty();
+    }
+
+    // The project lookup is a cacheable query. A replica read right after the rename must not put
+    // the old name back into the query cache, where the writer's primary read would find it.
+    @Test
+    void staleReplicaReadIsNotCached() {
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.update("insert into project (id, project_name, version) values (?, ?, 0)",
+                    LAGGING_PROJECT_ID, "Before Rename");
+        }
+
+        authenticate("alice");
+        Project renamed = new Project();
+        renamed.setProjectName("After Rename");
+        projectService.update(LAGGING_PROJECT_ID, renamed);
+
+        authenticate("bob");
+        assertThat(projectService.findById(LAGGING_PROJECT_ID)).map(ProjectDto::getProjectName)
+                .contains("Before Rename");
+
+        authenticate("alice");
+        assertThat(projectService.findById(LAGGING_PROJECT_ID)).map(ProjectDto::getProjectName)
+                .contains("After Rename");
+    }
+
+    // With virtual threads each pool has a guard of its own and the router sits in front of both,
+    // so replica reads add capacity instead of also taking a primary permit.
+    @Nested
+    @TestPropertySource(properties = {
+            "spring.threads.virtual.enabled=true",
+            "app.read-replica.maximum-pool-size=4"
+    })
+    class WithVirtualThreads {
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Autowired
+        @Qualifier("replica")
+        private DataSource replicaPool;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Test
+        void replicaReadTakesAReplicaPermitOnly() throws SQLException {
+            ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+            ConcurrencyLimitedDataSource primaryGuard = (ConcurrencyLimitedDataSource) routing.getPrimary();
+            ConcurrencyLimitedDataSource replicaGuard = (ConcurrencyLimitedDataSource) routing.getReplica();
+            assertThat(replicaGuard).isSameAs(replicaPool);
+            assertThat(primaryGuard.getMaxConcurrency())
+                    .isEqualTo(primaryGuard.unwrap(HikariDataSource.class).getMaximumPoolSize());
+            assertThat(replicaGuard.getMaxConcurrency()).isEqualTo(4);
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                assertThat(countFiles(new JdbcTemplate(dataSource), REPLICA_ONLY_ID)).isEqualTo(1);
+                assertThat(replicaGuard.getAvailablePermits()).isEqualTo(3);
+                assertThat(primaryGuard.getAvailablePermits()).isEqualTo(primaryGuard.getMaxConcurrency());
+            });
+            assertThat(replicaGuard.getAvailablePermits()).isEqualTo(4);
+        }
+    }
+
+    private static void resetReplica() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(REPLICA)
+                .locations("classpath:db/migration/h2")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static int countFiles(JdbcTemplate jdbcTemplate, long id) {
+        return jdbcTemplate.queryForObject("select count(*) from file where id = ?", Integer.class, id);
+    }
+}
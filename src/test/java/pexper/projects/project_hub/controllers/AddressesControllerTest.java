@@ -1,6 +1,7 @@
 package pexper.projects.project_hub.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -12,11 +13,15 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
 import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.dto.AddressDto;
 import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
 import pexper.projects.project_hub.services.AddressService;
+import pexper.projects.project_hub.services.ModificationCounters;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -41,16 +46,28 @@ class AddressesControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @MockitoBean
+    private ModificationCounters modificationCounters;
+
+    @BeforeEach
+    void readThroughModificationCounters() {
+        when(modificationCounters.readIfModified(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllReturnsPage() throws Exception {
-        Address address = new Address();
-        address.setId(1L);
+        AddressDto address = new AddressDto(1L, "Main St", "Campinas", "SP", "10", "13010-100", 0L);
         when(addressService.findAll(PageRequest.of(0, 2)))
                 .thenReturn(new PageImpl<>(List.of(address)));
 
         mockMvc.perform(get("/api/addresses?page=0&size=2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].id").value(1L));
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].zipCode").value("13010-100"));
     }
 
     @Test
@@ -0,0 +1,119 @@
+package pexper.projects.project_hub.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.metrics.RequestStatements;
+import pexper.projects.project_hub.repositories.FileRepository;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+import pexper.projects.project_hub.security.JwtService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EndpointStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    private String authorization;
+    private Project project;
+    private Owner owner;
+    private Set<Owner> owners;
+    private final List<File> files = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        authorization = "Bearer " + jwtService.generateToken(userDetailsService.loadUserByUsername("admin"));
+        owners = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            Owner member = new Owner();
+            member.setName("Budget Owner " + i);
+            member.setEmail("budget.owner." + i + "." + System.nanoTime() + "@example.com");
+            owners.add(ownerRepository.save(member));
+        }
+        owner = owners.iterator().next();
+        project = new Project();
+        project.setProjectName("Budget Project");
+        project.setOwners(owners);
+        project = projectRepository.save(project);
+        for (int i = 0; i < 10; i++) {
+            File file = new File();
+            file.setFilename("budget-" + i + ".txt");
+            file.setPath("/budget/" + project.getId() + "/budget-" + i + ".txt");
+            file.setProject(project);
+            files.add(fileRepository.save(file));
+        }
+    }
+
+    // Requests run in their own transactions, so a rollback-only test transaction would not cover
+    // them; the rows are removed here instead, keeping other tests' counts and ETags independent.
+    @AfterEach
+    void tearDown() {
+        fileRepository.deleteAll(files);
+        projectRepository.delete(project);
+        ownerRepository.deleteAll(owners);
+    }
+
+    // Budgets include one principal lookup, which the user cache normally absorbs.
+    @Test
+    void projectEndpointsStayWithinBudget() throws Exception {
+        expectWithin("/api/projects/" + project.getId(), 2);
+        expectWithin("/api/projects/" + project.getId() + "/owners", 2);
+        expectWithin("/api/projects/" + project.getId() + "/files", 2);
+    }
+
+    @Test
+    void ownerEndpointsStayWithinBudget() throws Exception {
+        expectWithin("/api/owners/" + owner.getId(), 2);
+        expectWithin("/api/owners/" + owner.getId() + "/projects", 2);
+    }
+
+    @Test
+    void listEndpointsStayWithinBudget() throws Exception {
+        expectWithin("/api/projects?page=0&size=20", 3);
+        expectWithin("/api/owners?page=0&size=20", 3);
+        expectWithin("/api/files?page=0&size=20", 3);
+        expectWithin("/api/addresses?page=0&size=20", 3);
+        expectWithin("/api/projects/all", 2);
+        expectWithin("/api/files/all", 2);
+    }
+
+    private void expectWithin(String path, int statements) throws Exception {
+        mockMvc.perform(get(path).header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(RequestStatements.atMost(statements))
+                .andExpect(RequestStatements.noneRepeated());
+    }
+}
@@ -0,0 +1,61 @@
+package pexper.projects.project_hub.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import pexper.projects.project_hub.exports.ExportFormat;
+import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.ExportService;
+
+import java.io.OutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @Test
+    void exportStreamsAsAnAttachment() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("{\"type\":\"export\"}\n".getBytes());
+            return null;
+        }).when(exportService).export(eq(ExportFormat.NDJSON), eq(true), any());
+
+        mockMvc.perform(get("/api/export?gzip=true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-hub-export.ndjson.gz\""))
+                .andExpect(content().string("{\"type\":\"export\"}\n"));
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(get("/api/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,6 +1,7 @@
 package pexper.projects.project_hub.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -8,18 +9,42 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.DirectoryEntryDto;
+import pexper.projects.project_hub.dto.DirectoryListingDto;
 import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.FileTicketDto;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.FileQueueService;
 import pexper.projects.project_hub.services.FileService;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.ProjectService;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +56,9 @@ class FilesControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @MockitoBean
@@ -45,6 +73,21 @@ class FilesControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @MockitoBean
+    private ModificationCounters modificationCounters;
+
+    @BeforeEach
+    void readThroughModificationCounters() {
+        when(modificationCounters.readIfModified(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
+    @MockitoBean
+    private FileQueueService fileQueueService;
+
     @Test
     void getAllReturnsPage() throws Exception {
         FileRecordDto dto = new FileRecordDto();
@@ -59,6 +102,91 @@ class FilesControllerTest {
                 .andExpect(jsonPath("$.content[0].filename").value("readme.txt"));
     }
 
+    @Test
+    void getAfterReturnsCursorSlice() throws Exception {
+        FileRecordDto dto = new FileRecordDto();
+        dto.setId(7L);
+        dto.setFilename("notes.md");
+        when(fileService.findAfter("", 1))
+                .thenReturn(new CursorSlice<>(List.of(dto), 1, "aWQ6Nw"));
+
+        mockMvc.perform(get("/api/files?after=&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(7L))
+                .andExpect(jsonPath("$.next").value("aWQ6Nw"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void listDirectoryReturnsChildrenWithCounts() throws Exception {
+        DirectoryListingDto listing = new DirectoryListingDto("/projects/atlas", 3, 1, 1, List.of(
+                new DirectoryEntryDto("folder", null, "docs", "/projects/atlas/docs", 2),
+                new DirectoryEntryDto("file", 9L, "readme.md", "/projects/atlas/readme.md", 1)), 2, "bmV4dA", "e1-4");
+        when(fileService.listDirectory("/projects/atlas", null, 2)).thenReturn(listing);
+
+        mockMvc.perform(get("/api/files?pathPrefix=/projects/atlas&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"dir-e1-4\""))
+                .andExpect(jsonPath("$.fileCount").value(3))
+                .andExpect(jsonPath("$.entries[0].type").value("folder"))
+                .andExpect(jsonPath("$.entries[0].fileCount").value(2))
+                .andExpect(jsonPath("$.entries[1].id").value(9L))
+                .andExpect(jsonPath("$.next").value("bmV4dA"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void listDirectoryResumesAfterCursorAndHonoursIndexTag() throws Exception {
+        DirectoryListingDto listing = new DirectoryListingDto("/projects/atlas", 3, 1, 1, List.of(), 100, null, "e1-4");
+        when(fileService.listDirectory("/projects/atlas", "bmV4dA", 100)).thenReturn(listing);
+
+        mockMvc.perform(get("/api/files?pathPrefix=/projects/atlas&after=bmV4dA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/api/files?pathPrefix=/projects/atlas&after=bmV4dA")
+                        .header("If-None-Match", "W/\"dir-e1-4\""))
+                .andExpect(status().isNotModified());
+        verify(modificationCounters, never()).readIfModified(any(), any(), any());
+    }
+
+    @Test
+    void listDirectoryIgnoresCountParameter() throws Exception {
+        DirectoryListingDto listing = new DirectoryListingDto("/a", 0, 0, 0, List.of(), 100, null, "e1-4");
+        when(fileService.listDirectory("/a", null, 100)).thenReturn(listing);
+
+        mockMvc.perform(get("/api/files?pathPrefix=/a&count=false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fileCount").value(0))
+                .andExpect(jsonPath("$.totalEstimate").doesNotExist());
+        verify(fileService, never()).findSlice(any());
+    }
+
+    @Test
+    void streamAllWritesNdjson() throws Exception {
+        FileRecordDto first = new FileRecordDto();
+        first.setId(1L);
+        FileRecordDto second = new FileRecordDto();
+        second.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<FileRecordDto> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(fileService).streamAll(any());
+
+        MvcResult result = mockMvc.perform(get("/api/files/all?stream=true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"id\":1")))
+                .andExpect(content().string(containsString("\"id\":2")));
+    }
+
     @Test
     void getByIdReturns404WhenMissing() throws Exception {
         when(fileService.findById(13L)).thenReturn(Optional.empty());
@@ -84,4 +212,128 @@ class FilesControllerTest {
                 .andExpect(jsonPath("$.id").value(8L))
                 .andExpect(jsonPath("$.filename").value("report.csv"));
     }
+
+    @Test
+    void createWithRespondAsyncReturnsTicket() throws Exception {
+        when(fileQueueService.isEnabled()).thenReturn(true);
+        when(fileQueueService.enqueue(any(FileRecordDto.class)))
+                .thenReturn(new FileTicketDto("t-1", FileTicketDto.PENDING, null, null, null));
+
+        mockMvc.perform(post("/api/files")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filename\":\"report.csv\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/files/tickets/t-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void respondAsyncIsFoundAmongOtherPreferences() throws Exception {
+        when(fileQueueService.isEnabled()).thenReturn(true);
+        when(fileQueueService.enqueue(any(FileRecordDto.class)))
+                .thenReturn(new FileTicketDto("t-2", FileTicketDto.PENDING, null, null, null));
+
+        mockMvc.perform(post("/api/files")
+                        .header("Prefer", "return=minimal")
+                        .header("Prefer", "Respond-Async, wait=5")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filename\":\"report.csv\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/files/tickets/t-2"));
+        verify(fileService, never()).save(any(FileRecordDto.class));
+    }
+
+    @Test
+    void getTicketReturnsStatusOr404() throws Exception {
+        when(fileQueueService.findTicket("t-1"))
+                .thenReturn(Optional.of(new FileTicketDto("t-1", FileTicketDto.CREATED, 81L, null, null)));
+        when(fileQueueService.findTicket("gone")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/files/tickets/t-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fileId").value(81L));
+        mockMvc.perform(get("/api/files/tickets/gone"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createBatchReturnsPerItemResults() throws Exception {
+        when(fileService.saveAll(anyList())).thenReturn(List.of(
+                BatchItemResult.success(0, HttpStatus.CREATED, new FileRecordDto(8L, "report.csv", "/r.csv", null)),
+                BatchItemResult.failure(1, HttpStatus.NOT_FOUND, "Project not found: 99")));
+
+        List<FileRecordDto> payload = List.of(
+                new FileRecordDto(null, "report.csv", "/r.csv", null),
+                new FileRecordDto(null, "other.csv", "/o.csv", 99L));
+
+        mockMvc.perform(post("/api/files/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(201))
+                .andExpect(jsonPath("$[0].item.id").value(8L))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].error").value("Project not found: 99"));
+    }
+
+    @Test
+    void getSliceSkipsTotals() throws Exception {
+        FileRecordDto dto = new FileRecordDto(5L, "doc.txt", "/docs/doc.txt", 1L);
+        when(fileService.findSlice(PageRequest.of(0, 1))).thenReturn(new PageSlice<>(List.of(dto), 0, 1, true, 80L));
+
+        mockMvc.perform(get("/api/files").param("count", "false").param("page", "0").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(5L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalEstimate").value(80))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getAllFullNegotiatesCbor() throws Exception {
+        List<FileRecordDto> files = List.of(new FileRecordDto(1L, "a.txt", "/a.txt", null), new FileRecordDto(2L, "b.txt", "/b.txt", 3L));
+        when(fileService.findAll()).thenReturn(files);
+
+        byte[] body = mockMvc.perform(get("/api/files/all").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<FileRecordDto> decoded = new CBORMapper().readValue(body, new TypeReference<List<FileRecordDto>>() { });
+        assertThat(decoded).extracting(FileRecordDto::getId, FileRecordDto::getProjectId)
+                .containsExactly(tuple(1L, null), tuple(2L, 3L));
+    }
+
+    // Smile goes through the same Jackson setup as JSON, so pages keep the VIA_DTO shape.
+    @Test
+    void getAllPageHasTheJsonShapeInSmile() throws Exception {
+        FileRecordDto dto = new FileRecordDto(6L, "readme.txt", "/readme.txt", null);
+        when(fileService.findAll(PageRequest.of(0, 4))).thenReturn(new PageImpl<>(List.of(dto), PageRequest.of(0, 4), 9));
+
+        byte[] body = mockMvc.perform(get("/api/files?page=0&size=4").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new SmileMapper().readTree(body);
+        assertThat(page.path("content").get(0).path("id").asLong()).isEqualTo(6L);
+        assertThat(page.path("page").path("totalElements").asLong()).isEqualTo(9L);
+        assertThat(page.has("pageable")).isFalse();
+    }
+
+    @Test
+    void createBatchAcceptsSmile() throws Exception {
+        when(fileService.saveAll(anyList())).thenReturn(List.of(
+                BatchItemResult.success(0, HttpStatus.CREATED, new FileRecordDto(8L, "report.csv", "/r.csv", null))));
+        SmileMapper smileMapper = new SmileMapper();
+
+        mockMvc.perform(post("/api/files/batch")
+                        .contentType(SMILE)
+                        .content(smileMapper.writeValueAsBytes(List.of(new FileRecordDto(null, "report.csv", "/r.csv", null)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].item.id").value(8L));
+    }
 }
@@ -0,0 +1,78 @@
+package pexper.projects.project_hub.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import pexper.projects.project_hub.dto.ImportJobDto;
+import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.ImportService;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ImportsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImportService importService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @Test
+    void startReturnsAcceptedWithJobLocation() throws Exception {
+        when(importService.start(eq("files"), eq(MediaType.APPLICATION_NDJSON), any())).thenReturn(job("job-1", "QUEUED"));
+
+        mockMvc.perform(post("/api/imports/files")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"filename\":\"a.txt\"}\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/imports/job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void getByIdReturnsProgressOr404() throws Exception {
+        when(importService.findById("job-1")).thenReturn(Optional.of(job("job-1", "RUNNING")));
+        when(importService.findById("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/imports/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.imported").value(40));
+        mockMvc.perform(get("/api/imports/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobDto job(String id, String status) {
+        ImportJobDto job = new ImportJobDto();
+        job.setId(id);
+        job.setTarget("files");
+        job.setFormat("ndjson");
+        job.setStatus(status);
+        job.setImported(40);
+        return job;
+    }
+}
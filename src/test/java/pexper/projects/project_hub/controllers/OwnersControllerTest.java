@@ -1,6 +1,7 @@
 package pexper.projects.project_hub.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -12,11 +13,15 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
 import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.OwnerDto;
 import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.OwnerService;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -41,11 +46,21 @@ class OwnersControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @MockitoBean
+    private ModificationCounters modificationCounters;
+
+    @BeforeEach
+    void readThroughModificationCounters() {
+        when(modificationCounters.readIfModified(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllReturnsPage() throws Exception {
-        Owner owner = new Owner();
-        owner.setId(2L);
-        owner.setName("Ada");
+        OwnerDto owner = new OwnerDto(2L, "Ada", "ada@example.com", 0L);
         when(ownerService.findAll(PageRequest.of(0, 3)))
                 .thenReturn(new PageImpl<>(List.of(owner)));
 
@@ -1,6 +1,7 @@
 package pexper.projects.project_hub.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -11,14 +12,26 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
+import pexper.projects.project_hub.domain.Owner;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.CursorSlice;
+import pexper.projects.project_hub.dto.ProjectDto;
 import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.ModificationCounters;
 import pexper.projects.project_hub.services.ProjectService;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,11 +54,21 @@ class ProjectsControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @MockitoBean
+    private ModificationCounters modificationCounters;
+
+    @BeforeEach
+    void readThroughModificationCounters() {
+        when(modificationCounters.readIfModified(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
     @Test
     void getAllReturnsPage() throws Exception {
-        Project project = new Project();
-        project.setId(1L);
-        project.setProjectName("Portal");
+        ProjectDto project = new ProjectDto(1L, "Portal", 0L);
         when(projectService.findAll(PageRequest.of(0, 1)))
                 .thenReturn(new PageImpl<>(List.of(project)));
 
@@ -55,6 +78,17 @@ class ProjectsControllerTest {
                 .andExpect(jsonPath("$.content[0].projectName").value("Portal"));
     }
 
+    @Test
+    void afterTakesPrecedenceOverCountFalse() throws Exception {
+        when(projectService.findAfter("aWQ6MQ", 1))
+                .thenReturn(new CursorSlice<>(List.of(new ProjectDto(2L, "Atlas", 0L)), 1, null));
+
+        mockMvc.perform(get("/api/projects?after=aWQ6MQ&count=false&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2L))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
     @Test
     void getByIdReturns404WhenMissing() throws Exception {
         when(projectService.findById(99L)).thenReturn(Optional.empty());
@@ -63,6 +97,57 @@ class ProjectsControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getByIdReturns304WhenVersionUnchanged() throws Exception {
+        when(projectService.findById(1L)).thenReturn(Optional.of(new ProjectDto(1L, "Portal", 3L)));
+
+        mockMvc.perform(get("/api/projects/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""));
+
+        mockMvc.perform(get("/api/projects/1").header("If-None-Match", "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllReturns304WhenTableUnchanged() throws Exception {
+        doAnswer(invocation -> invocation.<Predicate<String>>getArgument(1).test("W/\"project-abc-4\"")
+                ? null : invocation.<Supplier<?>>getArgument(2).get())
+                .when(modificationCounters).readIfModified(eq(Project.class), any(), any());
+
+        mockMvc.perform(get("/api/projects").header("If-None-Match", "W/\"project-abc-4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"project-abc-4\""));
+
+        verify(projectService, never()).findAll(any(PageRequest.class));
+    }
+
+    @Test
+    void getOwnersUsesOwnersFetchPlan() throws Exception {
+        Owner owner = new Owner();
+        owner.setId(5L);
+        owner.setName("Ada");
+        Project project = new Project();
+        project.setId(1L);
+        project.setOwners(Set.of(owner));
+        when(projectService.findWithOwnersById(1L)).thenReturn(Optional.of(project));
+
+        mockMvc.perform(get("/api/projects/1/owners"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(5L))
+                .andExpect(jsonPath("$[0].name").value("Ada"));
+        verify(projectService, never()).findById(any());
+    }
+
+    @Test
+    void getOwnersReturns404WhenMissing() throws Exception {
+        when(projectService.findWithOwnersById(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/projects/99/owners"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void createReturnsCreated() throws Exception {
         Project saved = new Project();
@@ -0,0 +1,66 @@
+package pexper.projects.project_hub.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.dto.PageSlice;
+import pexper.projects.project_hub.dto.SearchHitDto;
+import pexper.projects.project_hub.security.JwtService;
+import pexper.projects.project_hub.security.PrincipalResolver;
+import pexper.projects.project_hub.services.SearchService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @Test
+    void searchReturnsRankedHits() throws Exception {
+        SearchHitDto hit = new SearchHitDto("file", 8L, "spec.pdf", "/docs/spec.pdf", 3.5f);
+        when(searchService.search("spec", "file", PageRequest.of(1, 5)))
+                .thenReturn(new PageSlice<>(List.of(hit), 1, 5, false, 6L));
+
+        mockMvc.perform(get("/api/search?q=spec&type=file&page=1&size=5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].type").value("file"))
+                .andExpect(jsonPath("$.content[0].id").value(8L))
+                .andExpect(jsonPath("$.content[0].detail").value("/docs/spec.pdf"))
+                .andExpect(jsonPath("$.totalEstimate").value(6L));
+    }
+
+    @Test
+    void searchRejectsUnknownType() throws Exception {
+        when(searchService.search("spec", "user", PageRequest.of(0, 20)))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown search type: user"));
+
+        mockMvc.perform(get("/api/search?q=spec&type=user"))
+                .andExpect(status().isBadRequest());
+    }
+}
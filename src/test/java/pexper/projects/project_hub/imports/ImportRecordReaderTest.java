@@ -0,0 +1,93 @@
+package pexper.projects.project_hub.imports;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportRecordReaderTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void csvHandlesQuotesEscapesAndEmptyFields() throws IOException {
+        List<ImportRecord> records = read(ImportFormat.CSV, "\uFEFFfilename,path,projectId\r\n"
+                + "\"spec, final.pdf\",/docs/spec.pdf,7\r\n"
+                + "\r\n"
+                + "\"say \"\"hi\"\".txt\",\"\",\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(records.get(0).get("filename")).isEqualTo("spec, final.pdf");
+        assertThat(records.get(0).get("projectId")).isEqualTo("7");
+        assertThat(records.get(1).getLineNumber()).isEqualTo(4);
+        assertThat(records.get(1).get("filename")).isEqualTo("say \"hi\".txt");
+        assertThat(records.get(1).get("path")).isEmpty();
+        assertThat(records.get(1).get("projectId")).isNull();
+    }
+
+    @Test
+    void csvReportsBadLinesAndKeepsReading() throws IOException {
+        List<ImportRecord> records = read(ImportFormat.CSV, "name,email\n"
+                + "Ana,ana@example.com,extra\n"
+                + "\"Bruno,bruno@example.com\n"
+                + "Caio,caio@example.com");
+
+        assertThat(records).extracting(ImportRecord::getError)
+                .containsExactly("Expected 2 fields but found 3", "Unterminated quoted field", null);
+        assertThat(records.get(2).get("email")).isEqualTo("caio@example.com");
+    }
+
+    @Test
+    void csvRejectsAnInvalidHeader() {
+        assertThatThrownBy(() -> read(ImportFormat.CSV, "name,name\nAna,Ana\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("header");
+    }
+
+    @Test
+    void ndjsonReadsScalarsAndReportsMalformedLines() throws IOException {
+        List<ImportRecord> records = read(ImportFormat.NDJSON, "{\"filename\":\"a.txt\",\"projectId\":3}\n"
+                + "{\"filename\":\n"
+                + "{\"filename\":{\"nested\":true}}\n"
+                + "[1,2]\n"
+                + "{\"filename\":\"b.txt\",\"path\":null}\n");
+
+        assertThat(records).hasSize(5);
+        assertThat(records.get(0).get("projectId")).isEqualTo("3");
+        assertThat(records.get(1).getError()).startsWith("Malformed JSON");
+        assertThat(records.get(2).getError()).contains("filename");
+        assertThat(records.get(3).getError()).isEqualTo("Expected a JSON object");
+        assertThat(records.get(4).get("filename")).isEqualTo("b.txt");
+        assertThat(records.get(4).get("path")).isNull();
+    }
+
+    @Test
+    void overlongLinesAreCutOffWithoutLosingTheNextLine() throws IOException {
+        String line = "{\"filename\":\"" + "x".repeat(20_000) + "\"}";
+        ImportRecordReader reader = ImportRecordReader.open(ImportFormat.NDJSON,
+                new StringReader(line + "\n{\"filename\":\"ok.txt\"}\n"), jsonMapper, 1000);
+
+        assertThat(reader.next().getError()).isEqualTo("Line is longer than 1000 characters");
+        assertThat(reader.next().get("filename")).isEqualTo("ok.txt");
+        assertThat(reader.next()).isNull();
+        assertThat(reader.getLineNumber()).isEqualTo(2);
+    }
+
+    private List<ImportRecord> read(ImportFormat format, String content) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        try (ImportRecordReader reader = ImportRecordReader.open(format, new StringReader(content), jsonMapper, 1000)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
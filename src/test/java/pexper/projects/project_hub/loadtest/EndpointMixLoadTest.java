@@ -0,0 +1,144 @@
+package pexper.projects.project_hub.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: ./mvnw test -Ploadtest -Dtest=EndpointMixLoadTest
+//   [-Dloadtest.data-size=1000 -Dloadtest.clients=32 -Dloadtest.seconds=30 -Dloadtest.warmup-seconds=10]
+@Tag("load")
+class EndpointMixLoadTest {
+
+    private static final int DATA_SIZE = Integer.getInteger("loadtest.data-size", 1000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private static final int LIST_PAGES = 10;
+
+    @Test
+    void driveEndpointMix() throws Exception {
+        try (LoadTestServer server = LoadTestServer.start("mix")) {
+            SyntheticData data = SyntheticData.seed(server.context(), DATA_SIZE);
+            String token = server.login();
+            List<Operation> mix = mix(data);
+
+            drive(server, token, mix, WARMUP);
+            LatencyReport report = drive(server, token, mix, DURATION);
+
+            report.print("Endpoint mix: " + DATA_SIZE + " projects, " + CLIENTS + " clients", System.out);
+            report.writeDistributions(Path.of("target", "loadtest", "endpoint-mix"));
+            assertThat(report.totalErrors()).isZero();
+        }
+    }
+
+    private List<Operation> mix(SyntheticData data) {
+        List<Operation> mix = new ArrayList<>();
+        mix.add(get("GET /api/projects?page", 20, (random, client) -> "/api/projects?page=" + random.nextInt(LIST_PAGES) + "&size=20"));
+        mix.add(get("GET /api/owners?page", 8, (random, client) -> "/api/owners?page=" + random.nextInt(LIST_PAGES) + "&size=20"));
+        mix.add(get("GET /api/files?page", 8, (random, client) -> "/api/files?page=" + random.nextInt(LIST_PAGES) + "&size=20"));
+        mix.add(get("GET /api/addresses?page", 4, (random, client) -> "/api/addresses?page=" + random.nextInt(LIST_PAGES) + "&size=20"));
+        mix.add(get("GET /api/projects/all", 2, (random, client) -> "/api/projects/all"));
+        mix.add(get("GET /api/files/all", 1, (random, client) -> "/api/files/all"));
+        mix.add(get("GET /api/projects/{id}", 15, (random, client) -> "/api/projects/" + pick(random, data.projects()).id()));
+        mix.add(get("GET /api/owners/{id}", 6, (random, client) -> "/api/owners/" + pick(random, data.ownerIds())));
+        mix.add(get("GET /api/files/{id}", 6, (random, client) -> "/api/files/" + pick(random, data.fileIds())));
+        mix.add(get("GET /api/projects/{id}/owners", 8, (random, client) -> "/api/projects/" + pick(random, data.projects()).id() + "/owners"));
+        mix.add(get("GET /api/projects/{id}/files", 8, (random, client) -> "/api/projects/" + pick(random, data.projects()).id() + "/files"));
+        mix.add(get("GET /api/owners/{id}/projects", 5, (random, client) -> "/api/owners/" + pick(random, data.ownerIds()) + "/projects"));
+        mix.add(get("GET /api/addresses/{id}/owner", 2, (random, client) -> "/api/addresses/" + pick(random, data.addressIds()) + "/owner"));
+        mix.add(get("GET /api/files/{id}/project", 2, (random, client) -> "/api/files/" + pick(random, data.fileIds()) + "/project"));
+        mix.add(new Operation("PUT /api/projects/{id}", 5, (server, random, client) -> {
+            // Each client updates its own slice of projects, so the mix measures writes rather
+            // than optimistic-lock conflicts between clients.
+            List<SyntheticData.SeededProject> projects = data.projects();
+            int index = client + CLIENTS * random.nextInt(Math.max(projects.size() / CLIENTS, 1));
+            SyntheticData.SeededProject project = projects.get(index % projects.size());
+            String body = project.updateBody("Load Project " + project.id() + " rev " + random.nextInt(1000));
+            return HttpRequest.newBuilder(server.uri("/api/projects/" + project.id()))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body));
+        }));
+        return mix;
+    }
+
+    private LatencyReport drive(LoadTestServer server, String token, List<Operation> mix, Duration duration) throws Exception {
+        int totalWeight = mix.stream().mapToInt(operation -> operation.weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+        LatencyReport report = new LatencyReport();
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                int client = i;
+                clients.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = choose(mix, random.nextInt(totalWeight));
+                        HttpRequest request = operation.request.build(server, random, client)
+                                .header("Authorization", "Bearer " + token)
+                                .build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = server.client().send(request, HttpResponse.BodyHandlers.discarding());
+                        report.record(operation.name, System.nanoTime() - start, response.statusCode() < 400);
+                    }
+                    return null;
+                }));
+            }
+        }
+        report.finish();
+        for (Future<?> client : clients) {
+            client.get();
+        }
+        return report;
+    }
+
+    private static Operation get(String name, int weight, PathSource path) {
+        return new Operation(name, weight, (server, random, client) -> HttpRequest.newBuilder(server.uri(path.path(random, client))).GET());
+    }
+
+    private static <T> T pick(ThreadLocalRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Operation choose(List<Operation> mix, int ticket) {
+        for (Operation operation : mix) {
+            ticket -= operation.weight;
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private interface PathSource {
+        String path(ThreadLocalRandom random, int client);
+    }
+
+    private interface RequestSource {
+        HttpRequest.Builder build(LoadTestServer server, ThreadLocalRandom random, int client);
+    }
+
+    private static final class Operation {
+
+        private final String name;
+        private final int weight;
+        private final RequestSource request;
+
+        private Operation(String name, int weight, RequestSource request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+}
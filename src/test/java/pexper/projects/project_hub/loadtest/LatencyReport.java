@@ -0,0 +1,89 @@
+package pexper.projects.project_hub.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, ConcurrentHistogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+    private final long startedNanos = System.nanoTime();
+    private volatile long finishedNanos;
+
+    void record(String endpoint, long latencyNanos, boolean ok) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3))
+                .recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!ok) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    void finish() {
+        finishedNanos = System.nanoTime();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    double seconds() {
+        return (finishedNanos - startedNanos) / 1e9;
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    void print(String title, PrintStream out) {
+        out.printf("%n%s (%.1f s)%n", title, seconds());
+        out.printf("%-34s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((endpoint, histogram) -> printRow(out, endpoint, histogram, errorsFor(endpoint)));
+        printRow(out, "TOTAL", total(), totalErrors());
+    }
+
+    // Full HdrHistogram percentile distributions, one .hgrm file per endpoint (values in ms).
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, ConcurrentHistogram> entry : histograms.entrySet()) {
+            Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1e6);
+            }
+        }
+    }
+
+    private long errorsFor(String endpoint) {
+        LongAdder count = errors.get(endpoint);
+        return count == null ? 0 : count.sum();
+    }
+
+    private void printRow(PrintStream out, String endpoint, Histogram histogram, long errorCount) {
+        out.printf("%-34s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint, histogram.getTotalCount(), errorCount,
+                histogram.getTotalCount() / seconds(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,73 @@
+package pexper.projects.project_hub.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import pexper.projects.project_hub.ProjectHubApplication;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class LoadTestServer implements AutoCloseable {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+    private final HttpClient client;
+
+    private LoadTestServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    }
+
+    // Boots the service on the h2 profile with its own in-memory database and a random port.
+    // Arguments are passed as command-line args so they win over application.yml.
+    static LoadTestServer start(String name, String... args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.profiles.active=h2",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + name + ";DB_CLOSE_DELAY=-1",
+                "--logging.level.root=warn"));
+        arguments.addAll(List.of(args));
+        return new LoadTestServer(new SpringApplicationBuilder(ProjectHubApplication.class).run(arguments.toArray(String[]::new)));
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    HttpClient client() {
+        return client;
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    String login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin123\"}"))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Login failed: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        context.close();
+    }
+}
@@ -0,0 +1,161 @@
+package pexper.projects.project_hub.loadtest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.repositories.AddressRepository;
+import pexper.projects.project_hub.repositories.FileRepository;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Seeds projects with two owners, a fixed number of files and an address each, mirroring
+// the shape of BootstrapData at a configurable size.
+final class SyntheticData {
+
+    static final int FILES_PER_PROJECT = 5;
+    private static final int CHUNK = 200;
+
+    private final List<SeededProject> projects = new ArrayList<>();
+    private final List<Long> ownerIds = new ArrayList<>();
+    private final List<Long> fileIds = new ArrayList<>();
+    private final List<Long> addressIds = new ArrayList<>();
+
+    private SyntheticData() {
+    }
+
+    static SyntheticData seed(ApplicationContext context, int projectCount) {
+        SyntheticData data = new SyntheticData();
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        OwnerRepository ownerRepository = context.getBean(OwnerRepository.class);
+        FileRepository fileRepository = context.getBean(FileRepository.class);
+        AddressRepository addressRepository = context.getBean(AddressRepository.class);
+
+        for (int start = 0; start < projectCount; start += CHUNK) {
+            int first = start;
+            int size = Math.min(CHUNK, projectCount - start);
+            transaction.executeWithoutResult(status -> {
+                List<Owner> owners = new ArrayList<>();
+                for (int i = 0; i < Math.max(size / 2, 1); i++) {
+                    Owner owner = new Owner();
+                    owner.setName("Load Owner " + (first / 2 + i));
+                    owner.setEmail("load.owner." + (first / 2 + i) + "@example.com");
+                    owners.add(owner);
+                }
+                ownerRepository.saveAll(owners);
+
+                List<Project> projects = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    Project project = new Project();
+                    project.setProjectName("Load Project " + (first + i));
+                    project.getOwners().add(owners.get(i % owners.size()));
+                    project.getOwners().add(owners.get((i + 1) % owners.size()));
+                    projects.add(project);
+                }
+                projectRepository.saveAll(projects);
+
+                List<File> files = new ArrayList<>();
+                for (Project project : projects) {
+                    for (int f = 0; f < FILES_PER_PROJECT; f++) {
+                        File file = new File();
+                        file.setFilename("file-" + f + ".txt");
+                        file.setPath("/load/" + project.getId() + "/file-" + f + ".txt");
+                        file.setProject(project);
+                        project.getFiles().add(file);
+                        files.add(file);
+                    }
+                }
+                fileRepository.saveAll(files);
+
+                List<Address> addresses = new ArrayList<>();
+                for (Owner owner : owners) {
+                    Address address = address("Owner Street", owner.getName());
+                    address.setOwner(owner);
+                    owner.setAddress(address);
+                    addresses.add(address);
+                }
+                for (Project project : projects) {
+                    Address address = address("Project Avenue", project.getProjectName());
+                    address.setProject(project);
+                    project.setAddress(address);
+                    addresses.add(address);
+                }
+                addressRepository.saveAll(addresses);
+
+                owners.forEach(owner -> data.ownerIds.add(owner.getId()));
+                files.forEach(file -> data.fileIds.add(file.getId()));
+                addresses.forEach(address -> data.addressIds.add(address.getId()));
+                projects.forEach(project -> data.projects.add(new SeededProject(project)));
+            });
+        }
+        return data;
+    }
+
+    List<SeededProject> projects() {
+        return projects;
+    }
+
+    List<Long> ownerIds() {
+        return ownerIds;
+    }
+
+    List<Long> fileIds() {
+        return fileIds;
+    }
+
+    List<Long> addressIds() {
+        return addressIds;
+    }
+
+    private static Address address(String street, String name) {
+        Address address = new Address();
+        address.setStreet(street + " " + name.replaceAll("\\D+", ""));
+        address.setCity("Campinas");
+        address.setState("SP");
+        address.setNumber("100");
+        address.setZipCode("13010-100");
+        return address;
+    }
+
+    static final class SeededProject {
+
+        private final long id;
+        private final List<Long> ownerIds;
+        private final List<Long> fileIds;
+        private final long addressId;
+
+        private SeededProject(Project project) {
+            this.id = project.getId();
+            this.ownerIds = project.getOwners().stream().map(Owner::getId).toList();
+            this.fileIds = project.getFiles().stream().map(File::getId).toList();
+            this.addressId = project.getAddress().getId();
+        }
+
+        long id() {
+            return id;
+        }
+
+        // Full replacement body, so a PUT keeps the seeded owners, files and address in place.
+        String updateBody(String projectName) {
+            return "{\"projectName\":\"" + projectName + "\""
+                    + ",\"owners\":" + references(ownerIds)
+                    + ",\"files\":" + references(fileIds)
+                    + ",\"address\":{\"id\":" + addressId + "}}";
+        }
+
+        private static String references(List<Long> ids) {
+            StringBuilder json = new StringBuilder("[");
+            for (Long id : ids) {
+                json.append(json.length() > 1 ? "," : "").append("{\"id\":").append(id).append('}');
+            }
+            return json.append(']').toString();
+        }
+    }
+}
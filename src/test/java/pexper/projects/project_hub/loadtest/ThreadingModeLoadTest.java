@@ -0,0 +1,97 @@
+package pexper.projects.project_hub.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import pexper.projects.project_hub.config.ConcurrencyLimitedDataSource;
+
+import javax.sql.DataSource;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: ./mvnw test -Ploadtest -Dtest=ThreadingModeLoadTest [-Dloadtest.clients=1000 -Dloadtest.seconds=20]
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 15));
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 5));
+    private static final List<String> PATHS = List.of(
+            "/api/projects?page=0&size=10",
+            "/api/projects/1",
+            "/api/owners?page=0&size=10",
+            "/api/files?page=0&size=20");
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        LatencyReport platform = run(false);
+        LatencyReport virtual = run(true);
+
+        System.out.printf("%n%-10s %10s %12s %10s %10s %10s%n", "mode", "requests", "req/s", "p50 ms", "p99 ms", "max ms");
+        printSummary("platform", platform);
+        printSummary("virtual", virtual);
+
+        assertThat(platform.totalErrors()).isZero();
+        assertThat(virtual.totalErrors()).isZero();
+    }
+
+    private LatencyReport run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (LoadTestServer server = LoadTestServer.start(mode, "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            String token = server.login();
+
+            drive(server, token, WARMUP);
+            LatencyReport report = drive(server, token, DURATION);
+            report.print(mode + " threads, " + CLIENTS + " clients", System.out);
+
+            if (virtualThreads) {
+                ConcurrencyLimitedDataSource guard = server.context().getBean(DataSource.class).unwrap(ConcurrencyLimitedDataSource.class);
+                assertThat(guard.getAvailablePermits()).isEqualTo(guard.getMaxConcurrency());
+            }
+            return report;
+        }
+    }
+
+    private LatencyReport drive(LoadTestServer server, String token, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LatencyReport report = new LatencyReport();
+        List<Future<?>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                int offset = i;
+                clients.add(executor.submit(() -> {
+                    for (int n = offset; System.nanoTime() < deadline; n++) {
+                        String path = PATHS.get(n % PATHS.size());
+                        HttpRequest request = HttpRequest.newBuilder(server.uri(path))
+                                .header("Authorization", "Bearer " + token)
+                                .build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = server.client().send(request, HttpResponse.BodyHandlers.discarding());
+                        report.record("GET " + path, System.nanoTime() - start, response.statusCode() == 200);
+                    }
+                    return null;
+                }));
+            }
+        }
+        report.finish();
+        for (Future<?> client : clients) {
+            client.get();
+        }
+        return report;
+    }
+
+    private static void printSummary(String mode, LatencyReport report) {
+        Histogram total = report.total();
+        System.out.printf("%-10s %10d %12.1f %10.2f %10.2f %10.2f%n", mode, total.getTotalCount(),
+                total.getTotalCount() / report.seconds(), total.getValueAtPercentile(50) / 1e6,
+                total.getValueAtPercentile(99) / 1e6, total.getMaxValue() / 1e6);
+    }
+}
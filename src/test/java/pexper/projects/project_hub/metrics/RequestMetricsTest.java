@@ -0,0 +1,107 @@
+package pexper.projects.project_hub.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.services.OwnerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RequestMetricsTest {
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void requestRecordsPersistenceWorkPerEndpoint() throws Exception {
+        Owner owner = new Owner();
+        owner.setName("Metrics Owner");
+        owner.setEmail("metrics.owner@example.com");
+        Long ownerId = ownerService.save(owner).getId();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/owners/" + ownerId + "/projects");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/owners/{id}/projects");
+                ownerService.findWithProjectsById(ownerId);
+            }
+        });
+        requestMetricsFilter.getFilter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        DistributionSummary statements = meterRegistry.get("app.request.statements")
+                .tags("method", "GET", "uri", "/api/owners/{id}/projects")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isPositive();
+        assertThat(meterRegistry.get("app.request.flushes").tags("uri", "/api/owners/{id}/projects").summary().count())
+                .isEqualTo(1);
+        assertThat(RequestPersistenceStats.current()).isNull();
+    }
+
+    @Test
+    void repeatedStatementsAreFlagged() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/owners");
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/owners/n-plus-one");
+                for (long id = 1; id <= 5; id++) {
+                    entityManager.createQuery("select o from Owner o where o.id = :id", Owner.class)
+                            .setParameter("id", id)
+                            .getResultList();
+                }
+            }
+        });
+        requestMetricsFilter.getFilter().doFilter(request, new MockHttpServletResponse(), chain);
+
+        RequestPersistenceStats stats = (RequestPersistenceStats) request.getAttribute(RequestPersistenceStats.ATTRIBUTE);
+        assertThat(stats.getRepeatedStatements(5)).hasSize(1).containsValue(5);
+        assertThat(meterRegistry.get("app.request.repeated.statements")
+                .tags("method", "GET", "uri", "/api/owners/n-plus-one")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void serviceCallsAreTimedWithOutcome() {
+        Timer before = meterRegistry.find("app.service")
+                .tags("class", "OwnerServiceImpl", "method", "update", "exception", "ResponseStatusException")
+                .timer();
+        long failures = before == null ? 0 : before.count();
+
+        assertThatThrownBy(() -> ownerService.update(Long.MAX_VALUE, new Owner()))
+                .isInstanceOf(ResponseStatusException.class);
+
+        assertThat(meterRegistry.get("app.service")
+                .tags("class", "OwnerServiceImpl", "method", "update", "exception", "ResponseStatusException")
+                .timer().count()).isGreaterThan(failures);
+        assertThat(meterRegistry.get("app.service.failures")
+                .tags("class", "OwnerServiceImpl", "method", "update")
+                .counter().count()).isPositive();
+    }
+}
@@ -0,0 +1,44 @@
+package pexper.projects.project_hub.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+import static org.springframework.test.util.AssertionErrors.fail;
+
+// MockMvc matchers over the statements a request executed. Needs the request metrics filter, so use
+// them from @SpringBootTest + @AutoConfigureMockMvc tests that keep filters enabled.
+public final class RequestStatements {
+
+    private RequestStatements() {
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> {
+            RequestPersistenceStats stats = stats(result);
+            assertTrue("Expected at most " + max + " statements but got " + stats.getStatements()
+                    + ": " + stats.getStatementCounts(), stats.getStatements() <= max);
+        };
+    }
+
+    public static ResultMatcher noneRepeated() {
+        return noneRepeatedMoreThan(1);
+    }
+
+    public static ResultMatcher noneRepeatedMoreThan(int times) {
+        return result -> {
+            Map<String, Integer> repeated = stats(result).getRepeatedStatements(times + 1);
+            assertTrue("Statements repeated more than " + times + " times: " + repeated, repeated.isEmpty());
+        };
+    }
+
+    public static RequestPersistenceStats stats(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(RequestPersistenceStats.ATTRIBUTE);
+        if (stats == null) {
+            fail("No statement stats on the request; is the request metrics filter applied?");
+        }
+        return (RequestPersistenceStats) stats;
+    }
+}
@@ -0,0 +1,139 @@
+package pexper.projects.project_hub.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.metrics.RequestMetricsFilter;
+import pexper.projects.project_hub.metrics.RequestPersistenceStats;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the repository lookups, captures the SQL Hibernate generated for them and checks H2's plan
+// for each filtered statement. A missing index shows up as "tableScan" in the plan. Statements
+// without a where clause (full listings, exports) read every row by design and are skipped.
+@SpringBootTest
+class QueryPlanTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter;
+
+    @Test
+    void repositoryLookupsUseIndexes() throws Exception {
+        // Cached collections would never reach the database.
+        entityManagerFactory.unwrap(Cache.class).evictAllRegions();
+        Set<String> statements = captureStatements(() -> transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.findAll(PageRequest.of(0, 1)).getContent().getFirst();
+            Owner owner = ownerRepository.findAll(PageRequest.of(0, 1)).getContent().getFirst();
+            Hibernate.initialize(project.getOwners());
+            Hibernate.initialize(owner.getProjects());
+            projectRepository.findWithFilesById(project.getId());
+            projectRepository.findWithAddressById(project.getId());
+            projectRepository.findExistingIds(List.of(1L, 2L));
+            projectRepository.findProjectedByIdGreaterThan(1L, PageRequest.of(0, 10, Sort.by("id")));
+            ownerRepository.findWithAddressById(owner.getId());
+            ownerRepository.findExistingIds(List.of(1L, 2L));
+            ownerRepository.findProjectedByIdGreaterThan(1L, PageRequest.of(0, 10, Sort.by("id")));
+            addressRepository.findWithOwnerById(1L);
+            addressRepository.findWithProjectById(1L);
+            addressRepository.findExistingIds(List.of(1L, 2L));
+            addressRepository.findProjectedByIdGreaterThan(1L, PageRequest.of(0, 10, Sort.by("id")));
+            fileRepository.findRecordById(1L);
+            fileRepository.findRecordsByIdGreaterThan(1L, PageRequest.of(0, 10, Sort.by("id")));
+            fileRepository.assignToProject(project, List.of(1L, 2L));
+            fileRepository.detachFromProjectExcept(project, List.of(1L));
+            fileRepository.detachAllFromProject(project);
+            appUserRepository.findByUsername("admin");
+            status.setRollbackOnly();
+        }));
+
+        List<String> filtered = statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" where "))
+                .toList();
+        assertThat(filtered).hasSizeGreaterThanOrEqualTo(15);
+        for (String sql : filtered) {
+            String plan = explain(sql);
+            assertThat(plan).as("plan for %s", sql).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private Set<String> captureStatements(Runnable work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/query-plan");
+        List<RequestPersistenceStats> captured = new ArrayList<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                work.run();
+                captured.add(RequestPersistenceStats.current());
+            }
+        });
+        requestMetricsFilter.getFilter().doFilter(request, new MockHttpServletResponse(), chain);
+        return captured.getFirst().getStatementCounts().keySet();
+    }
+
+    // The plan is fixed at prepare time, so unbound parameters can stay null.
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package pexper.projects.project_hub.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DirectoryIndexTest {
+
+    private final DirectoryIndex directoryIndex = new DirectoryIndex();
+
+    @Test
+    void listsFoldersThenFilesWithRecursiveCounts() {
+        directoryIndex.put(1L, "/projects/atlas/docs/spec.txt");
+        directoryIndex.put(2L, "/projects/atlas/docs/notes.txt");
+        directoryIndex.put(3L, "/projects/atlas/src/main.java");
+        directoryIndex.put(4L, "/projects/atlas/readme.md");
+        directoryIndex.put(5L, "/projects/borealis/plan.txt");
+
+        DirectoryIndex.Listing atlas = directoryIndex.list("/projects/atlas", null, 10);
+
+        assertThat(atlas.getPath()).isEqualTo("/projects/atlas");
+        assertThat(atlas.getFileCount()).isEqualTo(4);
+        assertThat(names(atlas)).containsExactly("docs", "src", "readme.md");
+        assertThat(atlas.getEntries().get(0).getFileCount()).isEqualTo(2);
+        assertThat(atlas.getEntries().get(2).getId()).isEqualTo(4L);
+        assertThat(directoryIndex.list("/", null, 10).getFileCount()).isEqualTo(5);
+        assertThat(names(directoryIndex.list("projects/", null, 10))).containsExactly("atlas", "borealis");
+    }
+
+    @Test
+    void movesAndDeletesUpdateCountsAndPruneEmptyFolders() {
+        directoryIndex.put(1L, "/a/b/one.txt");
+        directoryIndex.put(2L, "/a/b/two.txt");
+
+        directoryIndex.put(1L, "/a/c/one.txt");
+        assertThat(directoryIndex.list("/a/b", null, 10).getFileCount()).isEqualTo(1);
+        assertThat(names(directoryIndex.list("/a", null, 10))).containsExactly("b", "c");
+
+        directoryIndex.remove(2L);
+        assertThat(directoryIndex.list("/a/b", null, 10)).isNull();
+        assertThat(directoryIndex.list("/a", null, 10).getFileCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pagesThroughChildrenAfterTheLastEntry() {
+        for (long id = 1; id <= 5; id++) {
+            directoryIndex.put(id, "/logs/day-" + id + ".log");
+        }
+        directoryIndex.put(6L, "/logs/archive/old.log");
+        directoryIndex.put(7L, "/logs/day-2.log");
+
+        DirectoryIndex.Listing first = directoryIndex.list("/logs", null, 1);
+        DirectoryIndex.Listing second = directoryIndex.list("/logs", first.getNext(), 3);
+        DirectoryIndex.Listing third = directoryIndex.list("/logs", second.getNext(), 3);
+
+        assertThat(names(first)).containsExactly("archive");
+        assertThat(names(second)).containsExactly("day-1.log", "day-2.log", "day-2.log");
+        assertThat(second.getEntries().get(2).getId()).isEqualTo(7L);
+        assertThat(names(third)).containsExactly("day-3.log", "day-4.log", "day-5.log");
+        assertThat(third.getNext()).isNull();
+    }
+
+    @Test
+    void cursorSurvivesRemovalOfTheLastEntry() {
+        directoryIndex.put(1L, "/logs/a.log");
+        directoryIndex.put(2L, "/logs/b.log");
+        directoryIndex.put(3L, "/logs/c.log");
+
+        DirectoryIndex.Listing first = directoryIndex.list("/logs", null, 2);
+        directoryIndex.remove(2L);
+
+        assertThat(names(directoryIndex.list("/logs", first.getNext(), 2))).containsExactly("c.log");
+        assertThatThrownBy(() -> directoryIndex.list("/logs", "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void versionChangesWithEveryWrite() {
+        directoryIndex.put(1L, "/a/one.txt");
+        String before = directoryIndex.list("/a", null, 10).getVersion();
+
+        assertThat(directoryIndex.list("/a", null, 10).getVersion()).isEqualTo(before);
+        directoryIndex.put(2L, "/b/two.txt");
+        assertThat(directoryIndex.list("/a", null, 10).getVersion()).isNotEqualTo(before);
+
+        DirectoryIndex other = new DirectoryIndex();
+        other.put(1L, "/a/one.txt");
+        assertThat(other.list("/a", null, 10).getVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileItRuns() {
+        directoryIndex.rebuild(consumer -> {
+            consumer.accept(1L, "/snapshot/one.txt");
+            directoryIndex.put(2L, "/live/two.txt");
+            directoryIndex.remove(3L);
+            consumer.accept(2L, "/snapshot/two.txt");
+            consumer.accept(3L, "/snapshot/three.txt");
+        });
+
+        assertThat(names(directoryIndex.list("/", null, 10))).containsExactly("live", "snapshot");
+        assertThat(directoryIndex.list("/snapshot", null, 10).getFileCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsPathsEscapingTheRoot() {
+        directoryIndex.put(1L, "/a/../secret.txt");
+
+        assertThat(directoryIndex.list("/", null, 10).getFileCount()).isZero();
+        assertThat(directoryIndex.list("/a/..", null, 10)).isNull();
+    }
+
+    private static List<String> names(DirectoryIndex.Listing listing) {
+        return listing.getEntries().stream().map(DirectoryIndex.Entry::getName).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package pexper.projects.project_hub.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.DirectoryEntryDto;
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.SearchHitDto;
+import pexper.projects.project_hub.services.FileService;
+import pexper.projects.project_hub.services.OwnerService;
+import pexper.projects.project_hub.services.SearchService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SearchIndexSyncTest {
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private FileService fileService;
+
+    @Test
+    void serviceWritesKeepTheIndexInSync() {
+        Owner owner = new Owner();
+        owner.setName("Quirinus Indexwell");
+        owner.setEmail("quirinus@example.com");
+        Long id = ownerService.save(owner).getId();
+        assertThat(ownerIds("quirinus")).containsExactly(id);
+
+        Owner renamed = new Owner();
+        renamed.setName("Quintus Indexwell");
+        renamed.setEmail("quintus@example.com");
+        ownerService.update(id, renamed);
+        assertThat(ownerIds("quirinus")).isEmpty();
+        assertThat(ownerIds("quintus")).containsExactly(id);
+
+        ownerService.deleteById(id);
+        assertThat(ownerIds("indexwell")).isEmpty();
+    }
+
+    @Test
+    void fileWritesKeepTheDirectoryListingInSync() {
+        FileRecordDto saved = fileService.save(new FileRecordDto(null, "plan.txt", "/sync-test/docs/plan.txt", null));
+        assertThat(fileService.listDirectory("/sync-test", null, 10).getFileCount()).isEqualTo(1);
+
+        fileService.update(saved.getId(), new FileRecordDto(null, "plan.txt", "/sync-test/archive/plan.txt", null));
+        assertThat(fileService.listDirectory("/sync-test", null, 10).getEntries())
+                .extracting(DirectoryEntryDto::getName)
+                .containsExactly("archive");
+
+        fileService.deleteById(saved.getId());
+        assertThatThrownBy(() -> fileService.listDirectory("/sync-test", null, 10))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void bootstrapDataIsIndexedOnStartup() {
+        assertThat(searchService.search("ana souza", "owner", PageRequest.of(0, 5)).getContent())
+                .extracting(SearchHitDto::getTitle)
+                .contains("Ana Souza");
+    }
+
+    private List<Long> ownerIds(String query) {
+        return searchService.search(query, "owner", PageRequest.of(0, 10)).getContent().stream()
+                .map(SearchHitDto::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package pexper.projects.project_hub.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void ranksExactAbovePrefixAboveFuzzy() {
+        searchIndex.index(new SearchDocument(SearchDocument.PROJECT, 1L, "Portal redesign", null));
+        searchIndex.index(new SearchDocument(SearchDocument.PROJECT, 2L, "Portals migration", null));
+        searchIndex.index(new SearchDocument(SearchDocument.PROJECT, 3L, "Postal service", null));
+        searchIndex.index(new SearchDocument(SearchDocument.PROJECT, 4L, "Billing", null));
+
+        assertThat(ids("portal", null)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void matchesEmailsAndPathsAsDetails() {
+        searchIndex.index(new SearchDocument(SearchDocument.OWNER, 7L, "Ana Souza", "ana.souza@example.com"));
+        searchIndex.index(new SearchDocument(SearchDocument.FILE, 8L, "spec.pdf", "/docs/billing/spec.pdf"));
+
+        assertThat(ids("example", null)).containsExactly(7L);
+        assertThat(ids("billing spec", null)).containsExactly(8L);
+        assertThat(ids("billing", SearchDocument.OWNER)).isEmpty();
+    }
+
+    @Test
+    void updatesAndDeletesReplaceEarlierDocuments() {
+        searchIndex.index(new SearchDocument(SearchDocument.OWNER, 1L, "Before", null));
+        searchIndex.index(new SearchDocument(SearchDocument.OWNER, 1L, "After", null));
+        assertThat(ids("before", null)).isEmpty();
+        assertThat(ids("after", null)).containsExactly(1L);
+
+        searchIndex.delete(SearchDocument.OWNER, 1L);
+        assertThat(ids("after", null)).isEmpty();
+    }
+
+    @Test
+    void rebuildKeepsWritesMadeWhileItRuns() {
+        searchIndex.rebuild(consumer -> {
+            consumer.accept(new SearchDocument(SearchDocument.OWNER, 1L, "Stale", null));
+            searchIndex.index(new SearchDocument(SearchDocument.OWNER, 2L, "Fresh", null));
+            searchIndex.delete(SearchDocument.OWNER, 3L);
+            consumer.accept(new SearchDocument(SearchDocument.OWNER, 2L, "Stale", null));
+            consumer.accept(new SearchDocument(SearchDocument.OWNER, 3L, "Stale", null));
+        });
+
+        assertThat(ids("stale", null)).containsExactly(1L);
+        assertThat(ids("fresh", null)).containsExactly(2L);
+    }
+
+    @Test
+    void pagesThroughHits() {
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(new SearchDocument(SearchDocument.FILE, id, "report-" + id + ".csv", null));
+        }
+
+        SearchIndex.SearchResult first = searchIndex.search("report", null, 0, 2);
+        SearchIndex.SearchResult last = searchIndex.search("report", null, 4, 2);
+
+        assertThat(first.getHits()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalHits()).isEqualTo(5);
+        assertThat(last.getHits()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    private List<Long> ids(String text, String type) {
+        return searchIndex.search(text, type, 0, 10).getHits().stream()
+                .map(hit -> hit.getDocument().getId())
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package pexper.projects.project_hub.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import pexper.projects.project_hub.config.JwtProperties;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    @Mock
+    private JwtEncoder jwtEncoder;
+
+    @Mock
+    private JwtDecoder jwtDecoder;
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret");
+        jwtService = new JwtService(jwtEncoder, jwtDecoder, jwtProperties);
+    }
+
+    @Test
+    void decodeVerifiesEachTokenOnce() {
+        Jwt jwt = jwt("ana", Instant.now().plusSeconds(300));
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt);
+
+        Jwt first = jwtService.decode("token-a");
+        Jwt second = jwtService.decode("token-a");
+
+        assertThat(second).isSameAs(first);
+        verify(jwtDecoder, times(1)).decode("token-a");
+    }
+
+    @Test
+    void decodeDoesNotKeepTokensPastExpiry() {
+        when(jwtDecoder.decode("token-b")).thenReturn(jwt("ana", Instant.now().minusSeconds(1)));
+
+        jwtService.decode("token-b");
+        jwtService.decode("token-b");
+
+        verify(jwtDecoder, times(2)).decode("token-b");
+    }
+
+    @Test
+    void decodeDoesNotCacheRejectedTokens() {
+        when(jwtDecoder.decode("bad")).thenThrow(new BadJwtException("bad signature"));
+
+        assertThatThrownBy(() -> jwtService.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> jwtService.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        verify(jwtDecoder, times(2)).decode("bad");
+    }
+
+    private static Jwt jwt(String subject, Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(subject)
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
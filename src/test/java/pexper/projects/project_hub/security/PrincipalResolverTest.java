@@ -0,0 +1,96 @@
+package pexper.projects.project_hub.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import pexper.projects.project_hub.config.AuthProperties;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalResolverTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private final AuthProperties authProperties = new AuthProperties();
+
+    private CaffeineUserCache userCache;
+
+    private PrincipalResolver principalResolver;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new CaffeineUserCache(authProperties);
+        principalResolver = new PrincipalResolver(userDetailsService, userCache, authProperties);
+    }
+
+    @Test
+    void cacheStrategyLoadsUserOnce() {
+        authProperties.setPrincipalStrategy(AuthProperties.PrincipalStrategy.CACHE);
+        when(userDetailsService.loadUserByUsername("ana")).thenReturn(user("ana"));
+
+        principalResolver.resolve(jwt("ana", "ROLE_USER"));
+        UserDetails second = principalResolver.resolve(jwt("ana", "ROLE_USER"));
+
+        assertThat(second.getUsername()).isEqualTo("ana");
+        verify(userDetailsService, times(1)).loadUserByUsername("ana");
+    }
+
+    @Test
+    void cacheStrategyReloadsAfterInvalidation() {
+        authProperties.setPrincipalStrategy(AuthProperties.PrincipalStrategy.CACHE);
+        when(userDetailsService.loadUserByUsername("ana")).thenReturn(user("ana"));
+
+        principalResolver.resolve(jwt("ana", "ROLE_USER"));
+        userCache.removeUserFromCache("ana");
+        principalResolver.resolve(jwt("ana", "ROLE_USER"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("ana");
+    }
+
+    @Test
+    void databaseStrategyLoadsUserOnEveryCall() {
+        authProperties.setPrincipalStrategy(AuthProperties.PrincipalStrategy.DATABASE);
+        when(userDetailsService.loadUserByUsername("ana")).thenReturn(user("ana"));
+
+        principalResolver.resolve(jwt("ana", "ROLE_USER"));
+        principalResolver.resolve(jwt("ana", "ROLE_USER"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("ana");
+    }
+
+    @Test
+    void tokenStrategyBuildsPrincipalFromClaims() {
+        authProperties.setPrincipalStrategy(AuthProperties.PrincipalStrategy.TOKEN);
+
+        UserDetails principal = principalResolver.resolve(jwt("ana", "ROLE_ADMIN"));
+
+        assertThat(principal.getUsername()).isEqualTo("ana");
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static UserDetails user(String username) {
+        return User.withUsername(username).password("hash").roles("USER").build();
+    }
+
+    private static Jwt jwt(String subject, String role) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(subject)
+                .claim("role", role)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.Address;
+import pexper.projects.project_hub.dto.AddressDto;
 import pexper.projects.project_hub.repositories.AddressRepository;
 
 import java.util.List;
@@ -29,16 +30,16 @@ class AddressServiceImplTest {
     private AddressServiceImpl addressService;
 
     @Test
-    void findAllReturnsRepositoryResults() {
-        Address address = new Address();
-        address.setId(1L);
-        when(addressRepository.findAll()).thenReturn(List.of(address));
+    void findAllReturnsProjections() {
+        AddressDto address = new AddressDto(1L, "Main St", "Campinas", "SP", "10", "13010-100", 0L);
+        when(addressRepository.findAllProjectedBy()).thenReturn(List.of(address));
 
-        List<Address> result = addressService.findAll();
+        List<AddressDto> result = addressService.findAll();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getId()).isEqualTo(1L);
-        verify(addressRepository).findAll();
+        verify(addressRepository).findAllProjectedBy();
+        verify(addressRepository, never()).findAll();
     }
 
     @Test
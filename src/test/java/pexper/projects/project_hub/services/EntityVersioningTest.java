@@ -0,0 +1,38 @@
+package pexper.projects.project_hub.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.OwnerDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EntityVersioningTest {
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private ModificationCounters modificationCounters;
+
+    @Test
+    void updateBumpsVersionAndCollectionTag() {
+        Owner owner = new Owner();
+        owner.setName("Versioned");
+        owner.setEmail("versioned@example.com");
+        owner = ownerService.save(owner);
+        OwnerDto before = ownerService.findById(owner.getId()).orElseThrow();
+        String tagBefore = modificationCounters.weakETag(Owner.class);
+
+        Owner incoming = new Owner();
+        incoming.setName("Versioned again");
+        incoming.setEmail("versioned@example.com");
+        ownerService.update(owner.getId(), incoming);
+
+        OwnerDto after = ownerService.findById(owner.getId()).orElseThrow();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(modificationCounters.weakETag(Owner.class)).isNotEqualTo(tagBefore);
+    }
+}
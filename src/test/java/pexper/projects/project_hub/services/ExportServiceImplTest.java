@@ -0,0 +1,95 @@
+package pexper.projects.project_hub.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pexper.projects.project_hub.exports.ExportFormat;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ExportServiceImplTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void ndjsonCoversEveryTableAndEndsWithRowCounts() {
+        List<JsonNode> lines = ndjson(export(ExportFormat.NDJSON, false));
+
+        JsonNode summary = lines.getLast();
+        assertThat(summary.get("type").asString()).isEqualTo("export");
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String table : List.of("project", "owner", "address", "file", "owner_project")) {
+            long rows = lines.stream().filter(line -> line.get("type").asString().equals(table)).count();
+            assertThat(summary.get("rows").get(table).asLong()).isEqualTo(rows);
+            counts.put(table, rows);
+        }
+        assertThat(counts.get("project")).isEqualTo(count("project"));
+        assertThat(counts.get("file")).isEqualTo(count("file"));
+        assertThat(counts.get("owner_project")).isEqualTo(count("owner_project")).isPositive();
+
+        JsonNode file = lines.stream().filter(line -> line.get("type").asString().equals("file")).findFirst().orElseThrow();
+        assertThat(file.has("filename")).isTrue();
+        assertThat(file.has("projectId")).isTrue();
+    }
+
+    @Test
+    void gzipWrapsTheSameStream() throws IOException {
+        byte[] compressed = export(ExportFormat.NDJSON, true);
+        byte[] plain = new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes();
+
+        assertThat(ndjson(plain)).hasSameSizeAs(ndjson(export(ExportFormat.NDJSON, false)));
+    }
+
+    @Test
+    void csvWritesOneZipEntryPerTable() throws IOException {
+        Map<String, List<String>> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(export(ExportFormat.CSV, false)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+            }
+        }
+
+        assertThat(entries).containsOnlyKeys("project.csv", "owner.csv", "address.csv", "file.csv",
+                "owner_project.csv", "manifest.csv");
+        assertThat(entries.get("file.csv").getFirst()).isEqualTo("id,filename,path,projectId,version");
+        assertThat(entries.get("file.csv")).hasSize((int) count("file") + 1);
+        assertThat(entries.get("manifest.csv")).contains("project," + count("project"));
+    }
+
+    private byte[] export(ExportFormat format, boolean gzip) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(format, gzip, out);
+        return out.toByteArray();
+    }
+
+    private List<JsonNode> ndjson(byte[] content) {
+        return new String(content, StandardCharsets.UTF_8).lines().map(jsonMapper::readTree).toList();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
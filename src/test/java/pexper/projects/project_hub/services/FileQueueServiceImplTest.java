@@ -0,0 +1,177 @@
+package pexper.projects.project_hub.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.config.WriteBehindProperties;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.FileTicketDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class FileQueueServiceImplTest {
+
+    private final FileService fileService = mock(FileService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstFlushStarted = new CountDownLatch(1);
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @Test
+    void fullQueueRejectsAndShutdownDrainsWhatWasAccepted() throws Exception {
+        when(fileService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<FileRecordDto> records = invocation.getArgument(0);
+            firstFlushStarted.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            synchronized (batchSizes) {
+                batchSizes.add(records.size());
+            }
+            List<BatchItemResult<FileRecordDto>> results = new ArrayList<>();
+            for (int i = 0; i < records.size(); i++) {
+                FileRecordDto record = records.get(i);
+                results.add(record.getProjectId() == null
+                        ? BatchItemResult.success(i, HttpStatus.CREATED, new FileRecordDto(ids.incrementAndGet(), record.getFilename(), record.getPath(), null))
+                        : BatchItemResult.failure(i, HttpStatus.NOT_FOUND, "Project not found: " + record.getProjectId()));
+            }
+            return results;
+        });
+        FileQueueServiceImpl queue = queue(2);
+        queue.start();
+
+        FileTicketDto first = queue.enqueue(new FileRecordDto(null, "a.txt", "/a.txt", null));
+        assertThat(firstFlushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        FileTicketDto second = queue.enqueue(new FileRecordDto(null, "b.txt", "/b.txt", null));
+        FileTicketDto third = queue.enqueue(new FileRecordDto(null, "c.txt", "/c.txt", 99L));
+
+        assertThatThrownBy(() -> queue.enqueue(new FileRecordDto(null, "d.txt", "/d.txt", null)))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(ex.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+                });
+        assertThat(meterRegistry.get(FileQueueServiceImpl.QUEUE_DEPTH).gauge().value()).isEqualTo(2);
+        assertThat(queue.findTicket(second.getTicket()).orElseThrow().getStatus()).isEqualTo(FileTicketDto.PENDING);
+
+        release.countDown();
+        queue.stop();
+
+        assertThatThrownBy(() -> queue.enqueue(new FileRecordDto(null, "e.txt", "/e.txt", null)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(batchSizes).containsExactly(1, 2);
+        assertThat(queue.findTicket(first.getTicket()).orElseThrow().getFileId()).isEqualTo(1L);
+        assertThat(queue.findTicket(second.getTicket()).orElseThrow().getStatus()).isEqualTo(FileTicketDto.CREATED);
+        assertThat(queue.findTicket(third.getTicket()).orElseThrow())
+                .satisfies(ticket -> {
+                    assertThat(ticket.getStatus()).isEqualTo(FileTicketDto.FAILED);
+                    assertThat(ticket.getErrorStatus()).isEqualTo(404);
+                });
+        assertThat(meterRegistry.get(FileQueueServiceImpl.REJECTED).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(FileQueueServiceImpl.FLUSH).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(FileQueueServiceImpl.LAG).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void failedBatchIsReplayedOneByOne() {
+        when(fileService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<FileRecordDto> records = invocation.getArgument(0);
+            if (records.stream().anyMatch(record -> record.getFilename().length() > 255)) {
+                throw new IllegalStateException("value too long");
+            }
+            return List.of(BatchItemResult.success(0, HttpStatus.CREATED,
+                    new FileRecordDto(ids.incrementAndGet(), records.getFirst().getFilename(), null, null)));
+        });
+        FileQueueServiceImpl queue = queue(10);
+        queue.start();
+        FileTicketDto good = queue.enqueue(new FileRecordDto(null, "ok.txt", null, null));
+        FileTicketDto bad = queue.enqueue(new FileRecordDto(null, "x".repeat(300), null, null));
+        queue.stop();
+
+        assertThat(queue.findTicket(good.getTicket()).orElseThrow().getStatus()).isEqualTo(FileTicketDto.CREATED);
+        assertThat(queue.findTicket(bad.getTicket()).orElseThrow().getError()).isEqualTo("value too long");
+    }
+
+    // The flush ignores the interrupt from stop(), as a blocked JDBC call may. The writer must still
+    // end at its next poll instead of draining the rest of the queue.
+    @Test
+    void interruptAfterShutdownTimeoutEndsTheWriter() throws Exception {
+        AtomicReference<Thread> writerThread = new AtomicReference<>();
+        when(fileService.saveAll(anyList())).thenAnswer(invocation -> {
+            writerThread.set(Thread.currentThread());
+            firstFlushStarted.countDown();
+            boolean interrupted = false;
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            List<FileRecordDto> records = invocation.getArgument(0);
+            return List.of(BatchItemResult.success(0, HttpStatus.CREATED,
+                    new FileRecordDto(ids.incrementAndGet(), records.getFirst().getFilename(), null, null)));
+        });
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        FileQueueServiceImpl queue = new FileQueueServiceImpl(fileService, properties, meterRegistry,
+                new SimpleAsyncTaskExecutor("file-write-behind-"));
+        queue.start();
+        FileTicketDto first = queue.enqueue(new FileRecordDto(null, "a.txt", "/a.txt", null));
+        assertThat(firstFlushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        FileTicketDto second = queue.enqueue(new FileRecordDto(null, "b.txt", "/b.txt", null));
+
+        queue.stop();
+        release.countDown();
+        writerThread.get().join(5000);
+
+        assertThat(writerThread.get().isAlive()).isFalse();
+        assertThat(queue.findTicket(first.getTicket()).orElseThrow().getStatus()).isEqualTo(FileTicketDto.CREATED);
+        assertThat(queue.findTicket(second.getTicket()).orElseThrow().getStatus()).isEqualTo(FileTicketDto.PENDING);
+        verify(fileService, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void disabledQueueStartsNoWriter() {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(false);
+        AsyncTaskExecutor writerExecutor = mock(AsyncTaskExecutor.class);
+        FileQueueServiceImpl queue = new FileQueueServiceImpl(fileService, properties, meterRegistry, writerExecutor);
+
+        queue.start();
+
+        assertThat(queue.isRunning()).isFalse();
+        verifyNoInteractions(writerExecutor);
+        assertThatThrownBy(() -> queue.enqueue(new FileRecordDto(null, "a.txt", "/a.txt", null)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private FileQueueServiceImpl queue(int capacity) {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setCapacity(capacity);
+        return new FileQueueServiceImpl(fileService, properties, meterRegistry,
+                new SimpleAsyncTaskExecutor("file-write-behind-"));
+    }
+}
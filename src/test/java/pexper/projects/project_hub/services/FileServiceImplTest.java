@@ -5,19 +5,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.File;
 import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.BatchItemResult;
+import pexper.projects.project_hub.dto.CursorSlice;
 import pexper.projects.project_hub.dto.FileRecordDto;
+import pexper.projects.project_hub.dto.PageSlice;
 import pexper.projects.project_hub.repositories.FileRepository;
 import pexper.projects.project_hub.repositories.ProjectRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +42,9 @@ class FileServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private RowCountEstimates rowCountEstimates;
+
     @InjectMocks
     private FileServiceImpl fileService;
 
@@ -36,7 +52,8 @@ class FileServiceImplTest {
     void saveAppliesProjectAndReturnsDto() {
         Project project = new Project();
         project.setId(4L);
-        when(projectRepository.findById(4L)).thenReturn(Optional.of(project));
+        when(projectRepository.existsById(4L)).thenReturn(true);
+        when(projectRepository.getReferenceById(4L)).thenReturn(project);
         when(fileRepository.save(any(File.class))).thenAnswer(invocation -> {
             File file = invocation.getArgument(0);
             file.setId(9L);
@@ -53,6 +70,127 @@ class FileServiceImplTest {
         assertThat(result.getId()).isEqualTo(9L);
         assertThat(result.getFilename()).isEqualTo("spec.pdf");
         assertThat(result.getProjectId()).isEqualTo(4L);
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void saveThrowsWhenProjectMissing() {
+        when(projectRepository.existsById(4L)).thenReturn(false);
+
+        FileRecordDto input = new FileRecordDto();
+        input.setProjectId(4L);
+
+        assertThatThrownBy(() -> fileService.save(input))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void updateKeepsProjectWithoutLookupWhenUnchanged() {
+        Project project = new Project();
+        project.setId(4L);
+        File existing = new File();
+        existing.setId(9L);
+        existing.setProject(project);
+        when(fileRepository.findById(9L)).thenReturn(Optional.of(existing));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FileRecordDto result = fileService.update(9L, new FileRecordDto(null, "spec-v2.pdf", "/files/spec-v2.pdf", 4L));
+
+        assertThat(result.getFilename()).isEqualTo("spec-v2.pdf");
+        assertThat(result.getProjectId()).isEqualTo(4L);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void saveAllReportsPerItemResultsInInputOrder() {
+        File existing = new File();
+        existing.setId(3L);
+        when(projectRepository.findExistingIds(Set.of(4L, 99L))).thenReturn(Set.of(4L));
+        when(projectRepository.getReferenceById(4L)).thenReturn(new Project());
+        when(fileRepository.findAllById(Set.of(3L, 7L))).thenReturn(List.of(existing));
+        when(fileRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<File> files = invocation.getArgument(0);
+            files.stream().filter(file -> file.getId() == null).forEach(file -> file.setId(50L));
+            return new ArrayList<>(files);
+        });
+
+        List<BatchItemResult<FileRecordDto>> results = fileService.saveAll(List.of(
+                new FileRecordDto(null, "a.txt", "/a.txt", 4L),
+                new FileRecordDto(7L, "b.txt", "/b.txt", null),
+                new FileRecordDto(3L, "c.txt", "/c.txt", null),
+                new FileRecordDto(null, "d.txt", "/d.txt", 99L)));
+
+        assertThat(results).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(201, 404, 200, 404);
+        assertThat(results.get(0).getItem().getId()).isEqualTo(50L);
+        assertThat(results.get(1).getError()).isEqualTo("File not found: 7");
+        assertThat(results.get(2).getItem().getFilename()).isEqualTo("c.txt");
+        assertThat(results.get(3).getError()).isEqualTo("Project not found: 99");
+        verify(projectRepository, never()).existsById(any());
+    }
+
+    @Test
+    void saveAllRejectsOversizedBatch() {
+        List<FileRecordDto> records = Collections.nCopies(Batches.MAX_ITEMS + 1, new FileRecordDto());
+
+        assertThatThrownBy(() -> fileService.saveAll(records))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(fileRepository);
+    }
+
+    @Test
+    void findSliceUsesEstimateInsteadOfCount() {
+        Pageable pageable = PageRequest.of(1, 2);
+        List<FileRecordDto> rows = List.of(new FileRecordDto(3L, "c.txt", "/c.txt", null), new FileRecordDto(4L, "d.txt", "/d.txt", null));
+        when(fileRepository.findRecordSlice(pageable)).thenReturn(new SliceImpl<>(rows, pageable, true));
+        when(rowCountEstimates.estimate(File.class)).thenReturn(80L);
+
+        PageSlice<FileRecordDto> result = fileService.findSlice(pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalEstimate()).isEqualTo(80L);
+        verify(fileRepository, never()).count();
+        verify(fileRepository, never()).findAllRecords(any(Pageable.class));
+    }
+
+    @Test
+    void findAfterSeeksPastCursorAndReturnsNextCursor() {
+        FileRecordDto first = new FileRecordDto(11L, "a.txt", "/a.txt", null);
+        FileRecordDto second = new FileRecordDto(12L, "b.txt", "/b.txt", 3L);
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id"));
+        when(fileRepository.findRecordsByIdGreaterThan(10L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(first, second), pageable, true));
+
+        CursorSlice<FileRecordDto> result = fileService.findAfter(KeysetCursor.encode(10L), 2);
+
+        assertThat(result.getContent()).extracting(FileRecordDto::getId).containsExactly(11L, 12L);
+        assertThat(KeysetCursor.decode(result.getNext())).isEqualTo(12L);
+        verify(fileRepository, never()).count();
+    }
+
+    @Test
+    void findAfterRejectsMalformedCursor() {
+        assertThatThrownBy(() -> fileService.findAfter("not-a-cursor", 2))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void streamAllPassesEachRowToConsumer() {
+        List<FileRecordDto> rows = List.of(
+                new FileRecordDto(1L, "a.txt", "/a.txt", null),
+                new FileRecordDto(2L, "b.txt", "/b.txt", 3L));
+        when(fileRepository.streamAll()).thenReturn(rows.stream());
+
+        List<Long> ids = new ArrayList<>();
+        fileService.streamAll(dto -> ids.add(dto.getId()));
+
+        assertThat(ids).containsExactly(1L, 2L);
     }
 
     @Test
@@ -0,0 +1,186 @@
+package pexper.projects.project_hub.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import pexper.projects.project_hub.config.ImportProperties;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.DirectoryEntryDto;
+import pexper.projects.project_hub.dto.ImportJobDto;
+import pexper.projects.project_hub.dto.ImportLineErrorDto;
+import pexper.projects.project_hub.dto.SearchHitDto;
+import pexper.projects.project_hub.imports.ImportFormat;
+import pexper.projects.project_hub.imports.ImportJob;
+import pexper.projects.project_hub.repositories.FileRepository;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.import.batch-size=2")
+class ImportServiceImplTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ImportProperties importProperties;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void importsFilesInBatchesAndReportsBadLines() throws InterruptedException {
+        Project project = new Project();
+        project.setProjectName("Import Target");
+        Long projectId = projectService.save(project).getId();
+
+        ImportJobDto job = awaitFinished(importService.start("files", MediaType.APPLICATION_NDJSON, body(
+                "{\"filename\":\"a.txt\",\"path\":\"/import-test/a.txt\",\"projectId\":" + projectId + "}\n"
+                        + "{\"filename\":\"b.txt\",\"path\":\"/import-test/b.txt\",\"projectId\":999999}\n"
+                        + "{\"filename\":\"c.txt\",\"path\":\"/import-test/c.txt\",\"projectId\":\"x\"}\n"
+                        + "{not json}\n"
+                        + "{\"filename\":\"" + "d".repeat(300) + "\",\"path\":\"/import-test/d.txt\"}\n"
+                        + "{\"filename\":\"e.txt\",\"path\":\"/import-test/e.txt\"}\n")));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getLinesRead()).isEqualTo(6);
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getFailed()).isEqualTo(4);
+        assertThat(job.getBytesRead()).isEqualTo(job.getBytesTotal());
+        assertThat(job.getErrors()).extracting(ImportLineErrorDto::getLine).containsExactlyInAnyOrder(2L, 3L, 4L, 5L);
+        assertThat(job.getErrors()).extracting(ImportLineErrorDto::getError)
+                .contains("Project not found: 999999", "Invalid projectId: x");
+        assertThat(fileService.listDirectory("/import-test", null, 10).getEntries())
+                .extracting(DirectoryEntryDto::getName)
+                .containsExactly("a.txt", "e.txt");
+        assertThat(fileService.findAll().stream().filter(file -> "a.txt".equals(file.getFilename())))
+                .singleElement()
+                .satisfies(file -> assertThat(file.getProjectId()).isEqualTo(projectId));
+    }
+
+    @Test
+    void importsOwnersFromCsv() throws InterruptedException {
+        ImportJobDto job = awaitFinished(importService.start("owners", MediaType.parseMediaType("text/csv;charset=UTF-8"), body(
+                "name,email\n"
+                        + "Zenobia Importer,zenobia@example.com\n"
+                        + "\"Importer, Xanthe\",xanthe@example.com\n"
+                        + "Broken,row,here\n")));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getFormat()).isEqualTo("csv");
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getErrors()).singleElement().satisfies(error -> assertThat(error.getLine()).isEqualTo(4));
+        assertThat(searchService.search("importer", "owner", PageRequest.of(0, 10)).getContent())
+                .extracting(SearchHitDto::getTitle)
+                .containsExactlyInAnyOrder("Zenobia Importer", "Importer, Xanthe");
+    }
+
+    @Test
+    void aBadCsvHeaderFailsTheJob() throws InterruptedException {
+        ImportJobDto job = awaitFinished(importService.start("owners", MediaType.parseMediaType("text/csv"), body(",\nAna,ana@example.com\n")));
+
+        assertThat(job.getStatus()).isEqualTo("FAILED");
+        assertThat(job.getMessage()).contains("header");
+    }
+
+    @Test
+    void rejectsUnknownTargetsAndFormats() {
+        assertThatThrownBy(() -> importService.start("projects", MediaType.APPLICATION_NDJSON, body("")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> importService.start("files", MediaType.APPLICATION_JSON, body("")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+    }
+
+    @Test
+    void shutdownTurnsAwayNewImportsAndInterruptsQueuedOnes() throws IOException {
+        ImportServiceImpl service = standaloneService();
+        Path spool = Files.createTempFile("import-", ".spool");
+        ImportJob queued = new ImportJob("queued", "owners", ImportFormat.NDJSON, 0, 10);
+
+        service.shutdown();
+        service.runWhenAdmitted(queued, spool);
+
+        assertThat(queued.getStatus()).isEqualTo(ImportJob.Status.INTERRUPTED);
+        assertThat(spool).doesNotExist();
+        assertThatThrownBy(() -> service.start("owners", MediaType.APPLICATION_NDJSON, body("")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void interruptedWorkerEndsTheJobInterrupted() throws IOException {
+        Path spool = Files.writeString(Files.createTempFile("import-", ".spool"),
+                "{\"name\":\"Never Imported\",\"email\":\"never@example.com\"}\n");
+        ImportJob job = new ImportJob("interrupted", "owners", ImportFormat.NDJSON, Files.size(spool), 10);
+
+        Thread.currentThread().interrupt();
+        try {
+            standaloneService().run(job, spool);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.INTERRUPTED);
+        assertThat(job.getImported()).isZero();
+        assertThat(spool).doesNotExist();
+    }
+
+    private ImportServiceImpl standaloneService() {
+        return new ImportServiceImpl(importProperties, projectRepository, fileRepository, ownerRepository,
+                transactionManager, jsonMapper, new SimpleAsyncTaskExecutor());
+    }
+
+    private ImportJobDto awaitFinished(ImportJobDto started) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        ImportJobDto job = started;
+        while (!job.getStatus().equals("COMPLETED") && !job.getStatus().equals("FAILED")) {
+            assertThat(System.nanoTime()).as("import %s finished", started.getId()).isLessThan(deadline);
+            Thread.sleep(20);
+            job = importService.findById(started.getId()).orElseThrow();
+        }
+        return job;
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
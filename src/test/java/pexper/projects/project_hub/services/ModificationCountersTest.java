@@ -0,0 +1,81 @@
+package pexper.projects.project_hub.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ModificationCountersTest {
+
+    @Autowired
+    private ModificationCounters modificationCounters;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void committedTransactionBumpsEachChangedTableOnce() {
+        long owners = count(Owner.class);
+        long projects = count(Project.class);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ownerRepository.save(owner("Counted 1"));
+            ownerRepository.save(owner("Counted 2"));
+            Project project = new Project();
+            project.setProjectName("Counted");
+            projectRepository.save(project);
+            // Nothing is flushed yet, so the counters must not have moved.
+            assertThat(count(Owner.class)).isEqualTo(owners);
+        });
+
+        assertThat(count(Owner.class)).isEqualTo(owners + 1);
+        assertThat(count(Project.class)).isEqualTo(projects + 1);
+    }
+
+    @Test
+    void rolledBackTransactionLeavesTagUnchanged() {
+        String tag = modificationCounters.weakETag(Owner.class);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ownerRepository.saveAndFlush(owner("Rolled back"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(modificationCounters.weakETag(Owner.class)).isEqualTo(tag);
+    }
+
+    @Test
+    void readIfModifiedSkipsReaderForCurrentTag() {
+        String tag = modificationCounters.weakETag(Owner.class);
+
+        assertThat(modificationCounters.readIfModified(Owner.class, tag::equals, () -> "read")).isNull();
+        assertThat(modificationCounters.readIfModified(Owner.class, "W/\"owner-old-0\""::equals, () -> "read"))
+                .isEqualTo("read");
+    }
+
+    private long count(Class<?> type) {
+        String tag = modificationCounters.weakETag(type);
+        return Long.parseLong(tag.substring(tag.lastIndexOf('-') + 1, tag.length() - 1));
+    }
+
+    private static Owner owner(String name) {
+        Owner owner = new Owner();
+        owner.setName(name);
+        owner.setEmail(name.toLowerCase().replace(' ', '.') + "@example.com");
+        return owner;
+    }
+}
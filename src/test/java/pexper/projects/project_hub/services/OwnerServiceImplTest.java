@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.dto.OwnerDto;
 import pexper.projects.project_hub.repositories.OwnerRepository;
 
 import java.util.List;
@@ -29,16 +30,16 @@ class OwnerServiceImplTest {
     private OwnerServiceImpl ownerService;
 
     @Test
-    void findAllReturnsRepositoryResults() {
-        Owner owner = new Owner();
-        owner.setId(2L);
-        when(ownerRepository.findAll()).thenReturn(List.of(owner));
+    void findAllReturnsProjections() {
+        OwnerDto owner = new OwnerDto(2L, "Ada", "ada@example.com", 0L);
+        when(ownerRepository.findAllProjectedBy()).thenReturn(List.of(owner));
 
-        List<Owner> result = ownerService.findAll();
+        List<OwnerDto> result = ownerService.findAll();
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getId()).isEqualTo(2L);
-        verify(ownerRepository).findAll();
+        verify(ownerRepository).findAllProjectedBy();
+        verify(ownerRepository, never()).findAll();
     }
 
     @Test
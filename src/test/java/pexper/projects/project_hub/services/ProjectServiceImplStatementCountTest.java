@@ -0,0 +1,80 @@
+package pexper.projects.project_hub.services;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import pexper.projects.project_hub.domain.File;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.repositories.FileRepository;
+import pexper.projects.project_hub.repositories.ProjectRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ProjectServiceImplStatementCountTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void updateStatementCountDoesNotGrowWithFileCount() {
+        long smallUpdate = statementsForUpdateWithFiles(5);
+        long largeUpdate = statementsForUpdateWithFiles(200);
+
+        assertThat(largeUpdate).isEqualTo(smallUpdate);
+    }
+
+    private long statementsForUpdateWithFiles(int fileCount) {
+        Project project = new Project();
+        project.setProjectName("Statement budget " + fileCount);
+        projectRepository.save(project);
+
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            File file = new File();
+            file.setFilename("budget-" + i + ".txt");
+            file.setPath("/budget/" + fileCount + "/budget-" + i + ".txt");
+            files.add(file);
+        }
+        fileRepository.saveAll(files);
+        entityManager.flush();
+        entityManager.clear();
+
+        Project incoming = new Project();
+        incoming.setProjectName("Statement budget " + fileCount + " updated");
+        incoming.setFiles(new HashSet<>(files));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        projectService.update(project.getId(), incoming);
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        assertThat(fileRepository.findAllById(files.stream().map(File::getId).toList()))
+                .allSatisfy(file -> assertThat(file.getProject().getId()).isEqualTo(project.getId()));
+        return statements;
+    }
+}
@@ -17,7 +17,8 @@ import pexper.projects.project_hub.repositories.FileRepository;
 import pexper.projects.project_hub.repositories.OwnerRepository;
 import pexper.projects.project_hub.repositories.ProjectRepository;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +42,12 @@ class ProjectServiceImplTest {
     @Mock
     private FileRepository fileRepository;
 
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Mock
+    private ModificationCounters modificationCounters;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -50,12 +57,6 @@ class ProjectServiceImplTest {
         existing.setId(1L);
         existing.setProjectName("old");
 
-        File existingFile1 = new File();
-        existingFile1.setId(10L);
-        File existingFile2 = new File();
-        existingFile2.setId(20L);
-        existing.setFiles(new HashSet<>(Set.of(existingFile1, existingFile2)));
-
         Project incoming = new Project();
         incoming.setProjectName("new");
         Owner ownerRef = new Owner();
@@ -78,10 +79,9 @@ class ProjectServiceImplTest {
         loadedFile.setId(10L);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(ownerRepository.findById(3L)).thenReturn(Optional.of(loadedOwner));
+        when(ownerRepository.findAllById(Set.of(3L))).thenReturn(List.of(loadedOwner));
         when(addressRepository.findById(7L)).thenReturn(Optional.of(loadedAddress));
-        when(fileRepository.findById(10L)).thenReturn(Optional.of(loadedFile));
-        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileRepository.findAllById(Set.of(10L))).thenReturn(List.of(loadedFile));
         when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Project updated = projectService.update(1L, incoming);
@@ -90,9 +90,50 @@ class ProjectServiceImplTest {
         assertThat(updated.getOwners()).containsExactly(loadedOwner);
         assertThat(updated.getAddress()).isEqualTo(loadedAddress);
         assertThat(updated.getFiles()).containsExactly(loadedFile);
-        assertThat(loadedFile.getProject()).isEqualTo(existing);
-        assertThat(existingFile2.getProject()).isNull();
-        verify(fileRepository, times(2)).save(any(File.class));
+        verify(fileRepository).detachFromProjectExcept(existing, Set.of(10L));
+        verify(fileRepository).assignToProject(existing, Set.of(10L));
+        verify(cacheEvictor).evictOwnerProjects();
+        verify(fileRepository, never()).findById(any());
+        verify(fileRepository, never()).save(any(File.class));
+        verify(ownerRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateWithEmptyFilesDetachesAllFiles() {
+        Project existing = new Project();
+        existing.setId(1L);
+        Project incoming = new Project();
+        incoming.setFiles(Set.of());
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        projectService.update(1L, incoming);
+
+        verify(fileRepository).detachAllFromProject(existing);
+        verify(fileRepository, never()).assignToProject(any(), any());
+        verify(modificationCounters).markModified(File.class);
+    }
+
+    @Test
+    void updateThrowsWhenFileMissing() {
+        Project existing = new Project();
+        existing.setId(1L);
+        Project incoming = new Project();
+        File present = new File();
+        present.setId(10L);
+        File missing = new File();
+        missing.setId(11L);
+        incoming.setFiles(new LinkedHashSet<>(List.of(present, missing)));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(fileRepository.findAllById(Set.of(10L, 11L))).thenReturn(List.of(present));
+
+        assertThatThrownBy(() -> projectService.update(1L, incoming))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("File not found: 11")
+                .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verify(fileRepository, never()).assignToProject(any(), any());
     }
 
     @Test
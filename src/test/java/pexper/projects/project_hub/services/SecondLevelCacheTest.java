@@ -0,0 +1,111 @@
+package pexper.projects.project_hub.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import pexper.projects.project_hub.domain.Owner;
+import pexper.projects.project_hub.domain.Project;
+import pexper.projects.project_hub.dto.OwnerDto;
+import pexper.projects.project_hub.repositories.OwnerRepository;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void repeatedFindByIdIsServedFromCache() {
+        Owner owner = newOwner("Cache Reader");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        ownerService.findById(owner.getId());
+        statistics.clear();
+        OwnerDto cached = ownerService.findById(owner.getId()).orElseThrow();
+
+        assertThat(cached.getName()).isEqualTo("Cache Reader");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subResourceIsOneQueryColdAndCachedWarm() {
+        Owner owner = newOwner("Graph Reader");
+        Project project = new Project();
+        project.setProjectName("Graph project");
+        project.setOwners(Set.of(owner));
+        projectService.save(project);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        assertThat(ownerService.findWithProjectsById(owner.getId()).orElseThrow().getProjects()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(ownerService.findWithProjectsById(owner.getId()).orElseThrow().getProjects()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void updateRefreshesCachedEntity() {
+        Owner owner = newOwner("Before");
+        ownerService.findById(owner.getId());
+
+        Owner incoming = new Owner();
+        incoming.setName("After");
+        incoming.setEmail("after@example.com");
+        ownerService.update(owner.getId(), incoming);
+
+        assertThat(ownerService.findById(owner.getId()).orElseThrow().getName()).isEqualTo("After");
+    }
+
+    @Test
+    void projectMembershipChangeEvictsOwnerProjects() {
+        Owner first = newOwner("First");
+        Owner second = newOwner("Second");
+        Project project = new Project();
+        project.setProjectName("Cached membership");
+        project.setOwners(Set.of(first));
+        project = projectService.save(project);
+        Long projectId = project.getId();
+
+        assertThat(ownerService.findWithProjectsById(first.getId()).orElseThrow().getProjects())
+                .extracting(Project::getId).containsExactly(projectId);
+
+        Project incoming = new Project();
+        incoming.setProjectName("Cached membership");
+        incoming.setOwners(Set.of(second));
+        projectService.update(projectId, incoming);
+
+        assertThat(ownerService.findWithProjectsById(first.getId()).orElseThrow().getProjects()).isEmpty();
+        assertThat(ownerService.findWithProjectsById(second.getId()).orElseThrow().getProjects())
+                .extracting(Project::getId).containsExactly(projectId);
+
+        projectService.deleteById(projectId);
+
+        assertThat(ownerService.findWithProjectsById(second.getId()).orElseThrow().getProjects()).isEmpty();
+    }
+
+    private Owner newOwner(String name) {
+        Owner owner = new Owner();
+        owner.setName(name);
+        owner.setEmail(name.toLowerCase().replace(' ', '.') + "@example.com");
+        return ownerRepository.save(owner);
+    }
+}